@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.benchmark;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Models with shallow and deep generic hierarchies used by benchmarks.
+ */
+@SuppressWarnings("unused")
+public final class BenchmarkModel {
+
+    private BenchmarkModel() {
+    }
+
+    /**
+     * Non-generic class without superclasses and interfaces.
+     */
+    public static class Shallow {
+
+        private long id;
+        private String name;
+        private List<String> tags;
+
+        public List<String> replaceTags(List<String> tags) throws IOException {
+            List<String> previousTags = this.tags;
+            this.tags = tags;
+            return previousTags;
+        }
+    }
+
+    /**
+     * Root of generic hierarchy with several type variables.
+     *
+     * @param <A> key type.
+     * @param <B> value type.
+     */
+    public static class Root<A, B> implements Comparable<Root<A, B>>, Serializable {
+
+        private A first;
+        private Map<A, List<B>> mapping;
+
+        @Override
+        public int compareTo(Root<A, B> o) {
+            return 0;
+        }
+
+        public Map<A, List<B>> replaceMapping(Map<A, List<B>> mapping, A first) throws IOException {
+            Map<A, List<B>> previousMapping = this.mapping;
+            this.mapping = mapping;
+            this.first = first;
+            return previousMapping;
+        }
+    }
+
+    /**
+     * Intermediate class of generic hierarchy that passes its type variable to superclass and interface.
+     *
+     * @param <C> element type.
+     */
+    public static class Middle<C> extends Root<C, Set<C>> implements Iterable<C> {
+
+        @Override
+        public Iterator<C> iterator() {
+            return Collections.emptyIterator();
+        }
+    }
+
+    /**
+     * Leaf class of generic hierarchy that wraps its type variable into parameterized types.
+     *
+     * @param <D> number type.
+     */
+    public static class Leaf<D extends Number> extends Middle<List<D>> implements Supplier<D> {
+
+        @Override
+        public D get() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.benchmark;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableTypeMetaResolver;
+import com.github.vladislavsevruk.resolver.resolver.field.FieldTypeMetaResolver;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving throughput when concurrent threads share the same resolving context. Benchmarks are inherited by
+ * nested classes that run them with different number of threads so scalability can be compared.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+public abstract class ContendedResolverBenchmark {
+
+    @Benchmark
+    public List<TypeMeta<?>> getParameterTypes(ContendedState contendedState) {
+        ResolvingState state = contendedState.state;
+        return new ExecutableTypeMetaResolver(state.context()).getParameterTypes(state.ownerTypeMeta, state.method);
+    }
+
+    @Benchmark
+    public TypeMeta<?> getTypeMeta(ContendedState contendedState) {
+        return TypeProviderBenchmark.newTypeProvider(contendedState.hierarchy).getTypeMeta();
+    }
+
+    @Benchmark
+    public TypeMeta<?> resolveField(ContendedState contendedState) {
+        ResolvingState state = contendedState.state;
+        return new FieldTypeMetaResolver(state.context()).resolveField(state.ownerTypeMeta, state.field);
+    }
+
+    /**
+     * Runs benchmarks using single thread as baseline.
+     */
+    @Threads(1)
+    public static class OneThread extends ContendedResolverBenchmark {
+    }
+
+    /**
+     * Runs benchmarks using two threads.
+     */
+    @Threads(2)
+    public static class TwoThreads extends ContendedResolverBenchmark {
+    }
+
+    /**
+     * Runs benchmarks using four threads.
+     */
+    @Threads(4)
+    public static class FourThreads extends ContendedResolverBenchmark {
+    }
+
+    /**
+     * Runs benchmarks using eight threads.
+     */
+    @Threads(8)
+    public static class EightThreads extends ContendedResolverBenchmark {
+    }
+
+    /**
+     * Runs benchmarks using all available threads.
+     */
+    @Threads(Threads.MAX)
+    public static class MaxThreads extends ContendedResolverBenchmark {
+    }
+
+    /**
+     * Benchmark state with resolving context that is created once per trial and shared by all threads as its refresh
+     * cannot be synchronized with concurrent invocations.
+     */
+    @State(Scope.Benchmark)
+    public static class ContendedState {
+
+        @Param({ "SHALLOW", "DEEP" })
+        public String hierarchy;
+        ResolvingState state;
+
+        @Setup(Level.Trial)
+        public void setUp() throws NoSuchFieldException, NoSuchMethodException {
+            state = new ResolvingState();
+            state.hierarchy = hierarchy;
+            state.setUp();
+            state.refreshContext();
+        }
+    }
+}
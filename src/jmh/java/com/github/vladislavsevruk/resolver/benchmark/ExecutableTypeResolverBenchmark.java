@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.benchmark;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableTypeMetaResolver;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures <code>ExecutableTypeMetaResolver</code> entry points.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+public class ExecutableTypeResolverBenchmark {
+
+    @Benchmark
+    public List<TypeMeta<?>> getExceptionTypesByClass(ResolvingState state) {
+        return new ExecutableTypeMetaResolver(state.context()).getExceptionTypes(state.ownerClass, state.method);
+    }
+
+    @Benchmark
+    public List<TypeMeta<?>> getExceptionTypesByTypeMeta(ResolvingState state) {
+        return new ExecutableTypeMetaResolver(state.context()).getExceptionTypes(state.ownerTypeMeta, state.method);
+    }
+
+    @Benchmark
+    public List<TypeMeta<?>> getExceptionTypesByTypeProvider(ResolvingState state) {
+        return new ExecutableTypeMetaResolver(state.context())
+                .getExceptionTypes(state.ownerTypeProvider, state.method);
+    }
+
+    @Benchmark
+    public List<TypeMeta<?>> getParameterTypesByClass(ResolvingState state) {
+        return new ExecutableTypeMetaResolver(state.context()).getParameterTypes(state.ownerClass, state.method);
+    }
+
+    @Benchmark
+    public List<TypeMeta<?>> getParameterTypesByTypeMeta(ResolvingState state) {
+        return new ExecutableTypeMetaResolver(state.context()).getParameterTypes(state.ownerTypeMeta, state.method);
+    }
+
+    @Benchmark
+    public List<TypeMeta<?>> getParameterTypesByTypeProvider(ResolvingState state) {
+        return new ExecutableTypeMetaResolver(state.context())
+                .getParameterTypes(state.ownerTypeProvider, state.method);
+    }
+
+    @Benchmark
+    public TypeMeta<?> getReturnTypeByClass(ResolvingState state) {
+        return new ExecutableTypeMetaResolver(state.context()).getReturnType(state.ownerClass, state.method);
+    }
+
+    @Benchmark
+    public TypeMeta<?> getReturnTypeByTypeMeta(ResolvingState state) {
+        return new ExecutableTypeMetaResolver(state.context()).getReturnType(state.ownerTypeMeta, state.method);
+    }
+
+    @Benchmark
+    public TypeMeta<?> getReturnTypeByTypeProvider(ResolvingState state) {
+        return new ExecutableTypeMetaResolver(state.context()).getReturnType(state.ownerTypeProvider, state.method);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.benchmark;
+
+import com.github.vladislavsevruk.resolver.context.IsolatedResolvingContexts;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark state with owner types and members for shallow and deep generic hierarchies. Every iteration uses newly
+ * created resolving context with empty caches that is isolated from context managed by
+ * <code>TypeMetaResolvingContextManager</code>, so time-based benchmarks measure resolving with caches warmed by first
+ * invocations of iteration while single shot benchmarks measure resolving with cold caches.
+ */
+@State(Scope.Benchmark)
+public class ResolvingState {
+
+    @Param({ "SHALLOW", "DEEP" })
+    public String hierarchy;
+    Field field;
+    Method method;
+    Class<?> ownerClass;
+    TypeProvider<?> ownerTypeProvider;
+    TypeMeta<?> ownerTypeMeta;
+    private ResolvingContext<TypeMeta<?>> context;
+
+    /**
+     * Returns resolving context that should be used for current iteration.
+     */
+    public ResolvingContext<TypeMeta<?>> context() {
+        return context;
+    }
+
+    @Setup(Level.Iteration)
+    public void refreshContext() {
+        context = IsolatedResolvingContexts.newContext();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchFieldException, NoSuchMethodException {
+        if ("DEEP".equals(hierarchy)) {
+            ownerClass = BenchmarkModel.Leaf.class;
+            ownerTypeProvider = new TypeProvider<BenchmarkModel.Leaf<Integer>>() {};
+            field = BenchmarkModel.Root.class.getDeclaredField("mapping");
+            method = BenchmarkModel.Root.class.getDeclaredMethod("replaceMapping", Map.class, Object.class);
+        } else {
+            ownerClass = BenchmarkModel.Shallow.class;
+            ownerTypeProvider = new TypeProvider<BenchmarkModel.Shallow>() {};
+            field = BenchmarkModel.Shallow.class.getDeclaredField("tags");
+            method = BenchmarkModel.Shallow.class.getDeclaredMethod("replaceTags", List.class);
+        }
+        ownerTypeMeta = ownerTypeProvider.getTypeMeta();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.benchmark;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import com.github.vladislavsevruk.resolver.util.TypeMetaUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures <code>TypeMetaUtil</code> type comparison methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+public class TypeMetaUtilBenchmark {
+
+    @Benchmark
+    public boolean isSameTypes(TypeMetaState typeMetaState) {
+        return TypeMetaUtil.isSameTypes(typeMetaState.sameAcceptor, typeMetaState.sameDonor);
+    }
+
+    @Benchmark
+    public boolean isTypesMatch(TypeMetaState typeMetaState) {
+        return TypeMetaUtil.isTypesMatch(typeMetaState.matchingAcceptor, typeMetaState.matchingDonor);
+    }
+
+    /**
+     * Benchmark state with structurally equal and assignable type metas.
+     */
+    @State(Scope.Benchmark)
+    public static class TypeMetaState {
+
+        @Param({ "SHALLOW", "DEEP" })
+        public String hierarchy;
+        TypeMeta<?> matchingAcceptor;
+        TypeMeta<?> matchingDonor;
+        TypeMeta<?> sameAcceptor;
+        TypeMeta<?> sameDonor;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            if ("DEEP".equals(hierarchy)) {
+                sameAcceptor = new TypeProvider<Map<String, List<Set<Integer>>>>() {}.getTypeMeta();
+                sameDonor = new TypeProvider<Map<String, List<Set<Integer>>>>() {}.getTypeMeta();
+                // requires hierarchy lookup as acceptor type differs from donor one
+                matchingAcceptor = new TypeProvider<Iterable<? extends List<? extends Number>>>() {}.getTypeMeta();
+                matchingDonor = new TypeProvider<BenchmarkModel.Leaf<Integer>>() {}.getTypeMeta();
+            } else {
+                sameAcceptor = new TypeProvider<List<String>>() {}.getTypeMeta();
+                sameDonor = new TypeProvider<List<String>>() {}.getTypeMeta();
+                matchingAcceptor = sameAcceptor;
+                matchingDonor = sameDonor;
+            }
+        }
+    }
+}
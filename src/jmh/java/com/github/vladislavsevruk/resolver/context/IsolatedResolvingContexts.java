@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.context;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.util.EnumSet;
+
+/**
+ * Creates resolving contexts for benchmarks that are isolated from context managed by
+ * <code>TypeMetaResolvingContextManager</code>.
+ */
+public final class IsolatedResolvingContexts {
+
+    private IsolatedResolvingContexts() {
+    }
+
+    /**
+     * Creates new resolving context with default implementations of all modules and empty caches. Factory methods
+     * registered at <code>TypeMetaResolvingModuleFactory</code> aren't used and aren't affected.
+     */
+    public static ResolvingContext<TypeMeta<?>> newContext() {
+        return new TypeMetaResolvingContext(ResolvingModules.DEFAULT, null,
+                EnumSet.allOf(ResolvingModuleType.class));
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache with bounded size. When number of entries exceeds maximum size entries selected by eviction policy
+ * are evicted by batch so eviction cost is amortized between insertions. Recency of entries is tracked approximately
+ * with precision of insertion: entries requested after the same insertion are considered equally recent but more
+ * recent than inserted entry. Keeps hit, miss and eviction counters.
+ *
+ * @param <K> type of cache key.
+ * @param <V> type of cached value.
+ */
+public final class BoundedCache<K, V> {
+
+    // part of maximum size that is evicted at once
+    private static final int EVICTION_BATCH_DIVISOR = 10;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final LongAdder evictionCount = new LongAdder();
+    private final Lock evictionLock = new ReentrantLock();
+    private final EvictionPolicy evictionPolicy;
+    private final LongAdder hitCount = new LongAdder();
+    // advanced by insertions only so hits just read it instead of contending on shared counter
+    private final AtomicLong insertionTicks = new AtomicLong();
+    private final boolean lfu;
+    private final int maximumSize;
+    private final LongAdder missCount = new LongAdder();
+
+    public BoundedCache(int maximumSize) {
+        this(maximumSize, EvictionPolicy.LRU);
+    }
+
+    public BoundedCache(int maximumSize, EvictionPolicy evictionPolicy) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum cache size should be positive but was " + maximumSize);
+        }
+        if (evictionPolicy == null) {
+            throw new IllegalArgumentException("Eviction policy should be specified.");
+        }
+        this.maximumSize = maximumSize;
+        this.evictionPolicy = evictionPolicy;
+        this.lfu = EvictionPolicy.LFU.equals(evictionPolicy);
+    }
+
+    /**
+     * Removes all entries from cache. Statistic counters aren't reset.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns value associated with received key or computes it using received function if value is absent. Function
+     * is called outside of any lock so it may be called several times for the same key by concurrent threads but only
+     * one computed value is cached. <code>null</code> values aren't cached.
+     *
+     * @param key             key to get value for.
+     * @param mappingFunction function for value computing.
+     * @return cached or computed value.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = mappingFunction.apply(key);
+        if (value == null) {
+            return null;
+        }
+        // inserted entry gets previous tick so entries requested after insertion are considered more recent
+        Entry<V> newEntry = new Entry<>(value, insertionTicks.getAndIncrement());
+        Entry<V> presentEntry = entries.putIfAbsent(key, newEntry);
+        if (presentEntry != null) {
+            return presentEntry.value;
+        }
+        evictIfNeeded();
+        return value;
+    }
+
+    /**
+     * Returns value associated with received key.
+     *
+     * @param key key to get value for.
+     * @return cached value or <code>null</code> if cache doesn't contain value for received key.
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        entry.recordAccess(insertionTicks.get());
+        if (lfu) {
+            entry.incrementAccessCount();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Returns policy used for selecting entries to evict.
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * Returns maximum number of entries this cache can hold.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns snapshot of cache statistics.
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), size(), maximumSize);
+    }
+
+    /**
+     * Returns current number of cached entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        int targetSize = maximumSize - maximumSize / EVICTION_BATCH_DIVISOR;
+        // access statistics are copied as concurrent hits would change them during sorting and break its contract
+        List<EvictionCandidate<K, V>> candidates = new ArrayList<>(entries.size());
+        for (Map.Entry<K, Entry<V>> mapEntry : entries.entrySet()) {
+            candidates.add(new EvictionCandidate<>(mapEntry.getKey(), mapEntry.getValue()));
+        }
+        int toEvict = candidates.size() - targetSize;
+        if (toEvict <= 0) {
+            return;
+        }
+        candidates.sort(getEvictionOrder());
+        for (int i = 0; i < toEvict; ++i) {
+            EvictionCandidate<K, V> candidate = candidates.get(i);
+            if (entries.remove(candidate.key, candidate.entry)) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private Comparator<EvictionCandidate<K, V>> getEvictionOrder() {
+        Comparator<EvictionCandidate<K, V>> lruOrder = Comparator
+                .comparingLong(candidate -> candidate.lastAccessTick);
+        if (lfu) {
+            return Comparator.<EvictionCandidate<K, V>>comparingLong(candidate -> candidate.accessCount)
+                    .thenComparing(lruOrder);
+        }
+        return lruOrder;
+    }
+
+    private void evictIfNeeded() {
+        // only one thread evicts entries while others continue without waiting
+        if (entries.size() > maximumSize && evictionLock.tryLock()) {
+            try {
+                evict();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        // approximate as concurrent increments may be lost or seen late which is acceptable for eviction ordering
+        private long accessCount = 1;
+        private volatile long lastAccessTick;
+
+        private Entry(V value, long lastAccessTick) {
+            this.value = value;
+            this.lastAccessTick = lastAccessTick;
+        }
+
+        private void incrementAccessCount() {
+            ++accessCount;
+        }
+
+        private void recordAccess(long accessTick) {
+            // frequently requested entries already have current tick so their memory isn't written on every hit
+            if (lastAccessTick != accessTick) {
+                lastAccessTick = accessTick;
+            }
+        }
+    }
+
+    private static final class EvictionCandidate<K, V> {
+
+        private final long accessCount;
+        private final Entry<V> entry;
+        private final K key;
+        private final long lastAccessTick;
+
+        private EvictionCandidate(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.accessCount = entry.accessCount;
+            this.lastAccessTick = entry.lastAccessTick;
+        }
+    }
+}
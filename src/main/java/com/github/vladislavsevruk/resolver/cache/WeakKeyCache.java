@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache that references keys weakly so entries are removed after their keys are garbage collected. Keys
+ * are compared by <code>equals</code> and kept at <code>ConcurrentHashMap</code> so lookups don't take locks. Entries
+ * of collected keys are removed on subsequent cache calls. Values shouldn't strongly reference their keys otherwise
+ * entries are never removed.
+ *
+ * @param <K> type of cache key.
+ * @param <V> type of cached value.
+ */
+public final class WeakKeyCache<K, V> {
+
+    private final ConcurrentMap<Object, V> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> staleKeys = new ReferenceQueue<>();
+
+    /**
+     * Removes all entries from cache.
+     */
+    public void clear() {
+        entries.clear();
+        expungeStaleEntries();
+    }
+
+    /**
+     * Returns value associated with received key or computes it using received function. Value is computed outside
+     * of locks so it may be computed several times by concurrent callers but only first computed value is stored and
+     * returned. <code>null</code> values aren't cached.
+     *
+     * @param key             key to get value for.
+     * @param mappingFunction function to compute value for absent key.
+     * @return value associated with received key.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        V computedValue = mappingFunction.apply(key);
+        if (computedValue == null) {
+            return null;
+        }
+        V presentValue = entries.putIfAbsent(new WeakKey<>(key, staleKeys), computedValue);
+        return presentValue == null ? computedValue : presentValue;
+    }
+
+    /**
+     * Returns value associated with received key or <code>null</code> if there is no such value.
+     *
+     * @param key key to get value for.
+     * @return value associated with received key or <code>null</code>.
+     */
+    public V get(K key) {
+        expungeStaleEntries();
+        return entries.get(new LookupKey(key));
+    }
+
+    /**
+     * Returns current number of entries that weren't removed yet.
+     */
+    public int size() {
+        expungeStaleEntries();
+        return entries.size();
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends K> staleKey;
+        while ((staleKey = staleKeys.poll()) != null) {
+            entries.remove(staleKey);
+        }
+    }
+
+    private static boolean isKeyOf(Object key, Object cacheKey) {
+        Object otherKey = null;
+        if (cacheKey instanceof WeakKey) {
+            otherKey = ((WeakKey<?>) cacheKey).get();
+        } else if (cacheKey instanceof LookupKey) {
+            otherKey = ((LookupKey) cacheKey).key;
+        }
+        return key != null && key.equals(otherKey);
+    }
+
+    /**
+     * Strong key wrapper for lookups that is equal to weak key with equal referent.
+     */
+    private static final class LookupKey {
+
+        private final Object key;
+
+        private LookupKey(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || isKeyOf(key, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+    }
+
+    /**
+     * Stored key wrapper that keeps hash code of referent so entry can be removed after referent is collected.
+     */
+    private static final class WeakKey<K> extends WeakReference<K> {
+
+        private final int hashCode;
+
+        private WeakKey(K key, ReferenceQueue<K> staleKeys) {
+            super(key, staleKeys);
+            this.hashCode = key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || isKeyOf(get(), o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
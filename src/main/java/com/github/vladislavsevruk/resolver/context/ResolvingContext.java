@@ -23,7 +23,10 @@
  */
 package com.github.vladislavsevruk.resolver.context;
 
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetrics;
+import com.github.vladislavsevruk.resolver.resolver.field.cache.FieldTypeCache;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.plan.ResolutionPlanStorage;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
 import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
 import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
@@ -35,11 +38,26 @@ import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyS
  */
 public interface ResolvingContext<T> {
 
+    /**
+     * Returns current instance of <code>FieldTypeCache</code> stored at context.
+     */
+    FieldTypeCache<T> getFieldTypeCache();
+
     /**
      * Returns current instance of <code>MappedVariableHierarchyStorage</code> stored at context.
      */
     MappedVariableHierarchyStorage<T> getMappedVariableHierarchyStorage();
 
+    /**
+     * Returns current instance of <code>ResolutionPlanStorage</code> stored at context.
+     */
+    ResolutionPlanStorage<T> getResolutionPlanStorage();
+
+    /**
+     * Returns current instance of <code>ResolvingMetrics</code> stored at context.
+     */
+    ResolvingMetrics getResolvingMetrics();
+
     /**
      * Returns current instance of <code>TypeResolverPicker</code> stored at context.
      */
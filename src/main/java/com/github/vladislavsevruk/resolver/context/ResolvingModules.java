@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.context;
+
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetrics;
+import com.github.vladislavsevruk.resolver.resolver.field.cache.FieldTypeCache;
+import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.plan.ResolutionPlanStorage;
+import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
+import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
+import lombok.Value;
+import lombok.With;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of resolving modules factory methods. Module replacement creates new snapshot so all factory
+ * methods of single snapshot are always consistent with each other.
+ */
+@Value
+@With
+class ResolvingModules {
+
+    static final ResolvingModules DEFAULT = new ResolvingModules(null, null, null, null, null, null, null);
+
+    ResolvingModuleFactoryMethod<TypeMeta<?>, FieldTypeCache<TypeMeta<?>>> fieldTypeCache;
+    ResolvingModuleFactoryMethod<TypeMeta<?>, MappedVariableHierarchyStorage<TypeMeta<?>>>
+            mappedVariableHierarchyStorage;
+    ResolvingModuleFactoryMethod<TypeMeta<?>, ResolutionPlanStorage<TypeMeta<?>>> resolutionPlanStorage;
+    ResolvingModuleFactoryMethod<TypeMeta<?>, ResolvingMetrics> resolvingMetrics;
+    ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverPicker<TypeMeta<?>>> typeResolverPicker;
+    ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverStorage<TypeMeta<?>>> typeResolverStorage;
+    ResolvingModuleFactoryMethod<TypeMeta<?>, TypeVariableMapper<TypeMeta<?>>> typeVariableMapper;
+
+    /**
+     * Returns types of modules which factory methods differ from ones at received snapshot.
+     *
+     * @param previousModules snapshot to compare factory methods with.
+     * @return <code>Set</code> with types of replaced modules.
+     */
+    Set<ResolvingModuleType> getReplacedModules(ResolvingModules previousModules) {
+        Set<ResolvingModuleType> replacedModules = EnumSet.noneOf(ResolvingModuleType.class);
+        addIfReplaced(replacedModules, ResolvingModuleType.FIELD_TYPE_CACHE, fieldTypeCache,
+                previousModules.fieldTypeCache);
+        addIfReplaced(replacedModules, ResolvingModuleType.MAPPED_VARIABLE_HIERARCHY_STORAGE,
+                mappedVariableHierarchyStorage, previousModules.mappedVariableHierarchyStorage);
+        addIfReplaced(replacedModules, ResolvingModuleType.RESOLUTION_PLAN_STORAGE, resolutionPlanStorage,
+                previousModules.resolutionPlanStorage);
+        addIfReplaced(replacedModules, ResolvingModuleType.RESOLVING_METRICS, resolvingMetrics,
+                previousModules.resolvingMetrics);
+        addIfReplaced(replacedModules, ResolvingModuleType.TYPE_RESOLVER_PICKER, typeResolverPicker,
+                previousModules.typeResolverPicker);
+        addIfReplaced(replacedModules, ResolvingModuleType.TYPE_RESOLVER_STORAGE, typeResolverStorage,
+                previousModules.typeResolverStorage);
+        addIfReplaced(replacedModules, ResolvingModuleType.TYPE_VARIABLE_MAPPER, typeVariableMapper,
+                previousModules.typeVariableMapper);
+        return replacedModules;
+    }
+
+    private void addIfReplaced(Set<ResolvingModuleType> replacedModules, ResolvingModuleType moduleType,
+            Object factoryMethod, Object previousFactoryMethod) {
+        if (factoryMethod != previousFactoryMethod) {
+            replacedModules.add(moduleType);
+        }
+    }
+}
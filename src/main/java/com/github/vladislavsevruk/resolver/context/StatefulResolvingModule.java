@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.context;
+
+import java.util.Set;
+
+/**
+ * Resolving module with cached state that may be carried over to refreshed resolving context. State is carried over
+ * only if factory method of module itself and factory methods of modules its state depends on weren't replaced.
+ *
+ * @param <T> type of mapped value for type variable.
+ * @param <U> resolving module type.
+ */
+public interface StatefulResolvingModule<T, U> {
+
+    /**
+     * Creates instance of module bound to received context that shares cached state with this instance.
+     *
+     * @param resolvingContext refreshed <code>ResolvingContext</code>.
+     * @return instance of module that shares cached state with this instance or <code>null</code> if module should be
+     * recreated.
+     */
+    U carryOver(ResolvingContext<T> resolvingContext);
+
+    /**
+     * Returns types of modules which replacement invalidates cached state of this module.
+     */
+    Set<ResolvingModuleType> getStateDependencies();
+}
@@ -23,8 +23,14 @@
  */
 package com.github.vladislavsevruk.resolver.context;
 
+import com.github.vladislavsevruk.resolver.metrics.NoOpResolvingMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetrics;
+import com.github.vladislavsevruk.resolver.resolver.field.cache.FieldTypeCache;
+import com.github.vladislavsevruk.resolver.resolver.field.cache.TypeMetaFieldTypeCache;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeMetaResolverPicker;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.plan.ResolutionPlanStorage;
+import com.github.vladislavsevruk.resolver.resolver.plan.TypeMetaResolutionPlanStorage;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeMetaResolverStorage;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
@@ -37,6 +43,11 @@ import lombok.Getter;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.log4j.Log4j2;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
 /**
  * Implementation of <code>ResolvingContext</code> for TypeMeta.
  *
@@ -48,39 +59,83 @@ import lombok.extern.log4j.Log4j2;
 @Getter
 final class TypeMetaResolvingContext implements ResolvingContext<TypeMeta<?>> {
 
+    FieldTypeCache<TypeMeta<?>> fieldTypeCache;
+    @Getter(AccessLevel.PACKAGE)
+    Set<ResolvingModuleType> keptModules = EnumSet.noneOf(ResolvingModuleType.class);
     MappedVariableHierarchyStorage<TypeMeta<?>> mappedVariableHierarchyStorage;
+    ResolutionPlanStorage<TypeMeta<?>> resolutionPlanStorage;
+    ResolvingMetrics resolvingMetrics;
     TypeResolverPicker<TypeMeta<?>> typeResolverPicker;
     TypeResolverStorage<TypeMeta<?>> typeResolverStorage;
     TypeVariableMapper<TypeMeta<?>> typeVariableMapper;
 
     /**
-     * Creates new instance using received modules or default implementations for nulls.
+     * Creates new instance using modules from received snapshot or default implementations for nulls. Modules of
+     * previous context that implement <code>StatefulResolvingModule</code> are carried over with their cached state
+     * if neither they nor modules their state depends on were replaced.
      *
-     * @param mappedVariableHierarchyStorageFactoryMethod factory method for <code>MappedVariableHierarchyStorageImpl</code>
-     *                                                    module implementation.
-     * @param typeResolverPickerFactoryMethod             factory method for <code>TypeResolverPicker</code> module
-     *                                                    implementation.
-     * @param typeResolverStorageFactoryMethod            factory method for <code>TypeResolverStorage</code> module
-     *                                                    implementation.
-     * @param typeVariableMapperFactoryMethod             factory method for <code>TypeVariableMapper</code> module
-     *                                                    implementation.
+     * @param modules         <code>ResolvingModules</code> snapshot with modules factory methods.
+     * @param previousContext context to carry over modules state from.
+     * @param replacedModules types of modules which factory methods were replaced since previous context creation.
      */
-    TypeMetaResolvingContext(
-            ResolvingModuleFactoryMethod<TypeMeta<?>, MappedVariableHierarchyStorage<TypeMeta<?>>> mappedVariableHierarchyStorageFactoryMethod,
-            ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverPicker<TypeMeta<?>>> typeResolverPickerFactoryMethod,
-            ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverStorage<TypeMeta<?>>> typeResolverStorageFactoryMethod,
-            ResolvingModuleFactoryMethod<TypeMeta<?>, TypeVariableMapper<TypeMeta<?>>> typeVariableMapperFactoryMethod) {
-        this.mappedVariableHierarchyStorage = orDefault(mappedVariableHierarchyStorageFactoryMethod,
+    TypeMetaResolvingContext(ResolvingModules modules, TypeMetaResolvingContext previousContext,
+            Set<ResolvingModuleType> replacedModules) {
+        this.resolvingMetrics = carryOverOrCreate(ResolvingModuleType.RESOLVING_METRICS,
+                previousModule(previousContext, TypeMetaResolvingContext::getResolvingMetrics), replacedModules,
+                modules.getResolvingMetrics(), context -> NoOpResolvingMetrics.INSTANCE);
+        log.debug(() -> String.format("Using '%s' as resolving metrics.", resolvingMetrics.getClass().getName()));
+        this.mappedVariableHierarchyStorage = carryOverOrCreate(ResolvingModuleType.MAPPED_VARIABLE_HIERARCHY_STORAGE,
+                previousModule(previousContext, TypeMetaResolvingContext::getMappedVariableHierarchyStorage),
+                replacedModules, modules.getMappedVariableHierarchyStorage(),
                 TypeMetaMappedVariableHierarchyStorage::new);
         log.debug(() -> String.format("Using '%s' as mapped variable hierarchy storage.",
                 mappedVariableHierarchyStorage.getClass().getName()));
-        this.typeResolverPicker = orDefault(typeResolverPickerFactoryMethod, TypeMetaResolverPicker::new);
+        this.typeResolverPicker = carryOverOrCreate(ResolvingModuleType.TYPE_RESOLVER_PICKER,
+                previousModule(previousContext, TypeMetaResolvingContext::getTypeResolverPicker), replacedModules,
+                modules.getTypeResolverPicker(), TypeMetaResolverPicker::new);
         log.debug(() -> String.format("Using '%s' as type resolver picker.", typeResolverPicker.getClass().getName()));
-        this.typeResolverStorage = orDefault(typeResolverStorageFactoryMethod, TypeMetaResolverStorage::new);
+        this.typeResolverStorage = carryOverOrCreate(ResolvingModuleType.TYPE_RESOLVER_STORAGE,
+                previousModule(previousContext, TypeMetaResolvingContext::getTypeResolverStorage), replacedModules,
+                modules.getTypeResolverStorage(), TypeMetaResolverStorage::new);
         log.debug(
                 () -> String.format("Using '%s' as type resolver storage.", typeResolverStorage.getClass().getName()));
-        this.typeVariableMapper = orDefault(typeVariableMapperFactoryMethod, TypeMetaVariableMapper::new);
+        this.typeVariableMapper = carryOverOrCreate(ResolvingModuleType.TYPE_VARIABLE_MAPPER,
+                previousModule(previousContext, TypeMetaResolvingContext::getTypeVariableMapper), replacedModules,
+                modules.getTypeVariableMapper(), TypeMetaVariableMapper::new);
         log.debug(() -> String.format("Using '%s' as type variable mapper.", typeVariableMapper.getClass().getName()));
+        this.fieldTypeCache = carryOverOrCreate(ResolvingModuleType.FIELD_TYPE_CACHE,
+                previousModule(previousContext, TypeMetaResolvingContext::getFieldTypeCache), replacedModules,
+                modules.getFieldTypeCache(), TypeMetaFieldTypeCache::new);
+        log.debug(() -> String.format("Using '%s' as field type cache.", fieldTypeCache.getClass().getName()));
+        this.resolutionPlanStorage = carryOverOrCreate(ResolvingModuleType.RESOLUTION_PLAN_STORAGE,
+                previousModule(previousContext, TypeMetaResolvingContext::getResolutionPlanStorage), replacedModules,
+                modules.getResolutionPlanStorage(), TypeMetaResolutionPlanStorage::new);
+        log.debug(() -> String
+                .format("Using '%s' as resolution plan storage.", resolutionPlanStorage.getClass().getName()));
+    }
+
+    private boolean canCarryOver(ResolvingModuleType moduleType, Object previousModule,
+            Set<ResolvingModuleType> replacedModules) {
+        if (!(previousModule instanceof StatefulResolvingModule) || replacedModules.contains(moduleType)) {
+            return false;
+        }
+        return Collections
+                .disjoint(((StatefulResolvingModule<?, ?>) previousModule).getStateDependencies(), replacedModules);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T carryOverOrCreate(ResolvingModuleType moduleType, T previousModule,
+            Set<ResolvingModuleType> replacedModules, ResolvingModuleFactoryMethod<TypeMeta<?>, T> factoryMethod,
+            ResolvingModuleFactoryMethod<TypeMeta<?>, T> defaultFactoryMethod) {
+        if (canCarryOver(moduleType, previousModule, replacedModules)) {
+            T module = ((StatefulResolvingModule<TypeMeta<?>, T>) previousModule).carryOver(this);
+            if (module != null) {
+                log.debug(() -> String.format("Carried over state of '%s'.", previousModule.getClass().getName()));
+                keptModules.add(moduleType);
+                return module;
+            }
+        }
+        return orDefault(factoryMethod, defaultFactoryMethod);
     }
 
     private <T> T orDefault(ResolvingModuleFactoryMethod<TypeMeta<?>, T> factoryMethod,
@@ -93,4 +148,9 @@ final class TypeMetaResolvingContext implements ResolvingContext<TypeMeta<?>> {
         }
         return defaultFactoryMethod.get(this);
     }
+
+    private <T> T previousModule(TypeMetaResolvingContext previousContext,
+            Function<TypeMetaResolvingContext, T> moduleGetter) {
+        return previousContext == null ? null : moduleGetter.apply(previousContext);
+    }
 }
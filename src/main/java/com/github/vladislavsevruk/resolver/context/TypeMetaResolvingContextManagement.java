@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.context;
+
+import com.github.vladislavsevruk.resolver.cache.CacheStatistics;
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolvingMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetricsSnapshot;
+import com.github.vladislavsevruk.resolver.metrics.TypeVariablesMapping;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.storage.BoundedMappedVariableHierarchyStorage;
+import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
+import lombok.extern.log4j.Log4j2;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of <code>TypeMetaResolvingContextManagerMXBean</code> that exposes statistics of current resolving
+ * context. Isn't registered automatically and should be registered explicitly using <code>register</code> method.
+ * Statistics are taken from <code>BoundedMappedVariableHierarchyStorage</code> or
+ * <code>InMemoryResolvingMetrics</code> if they are used by current context.
+ *
+ * @see TypeMetaResolvingContextManager
+ * @see TypeMetaResolvingContextManagerMXBean
+ */
+@Log4j2
+public final class TypeMetaResolvingContextManagement implements TypeMetaResolvingContextManagerMXBean {
+
+    public static final String OBJECT_NAME = "com.github.vladislavsevruk.resolver:type=TypeMetaResolvingContextManager";
+    private static final int SLOWEST_TYPES_NUMBER = 10;
+
+    /**
+     * Registers management bean at platform MBean server.
+     *
+     * @throws IllegalStateException if bean cannot be registered, e.g. it's already registered.
+     */
+    public static void register() {
+        register(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Registers management bean at received MBean server.
+     *
+     * @param server <code>MBeanServer</code> to register bean at.
+     * @throws IllegalStateException if bean cannot be registered, e.g. it's already registered.
+     */
+    public static void register(MBeanServer server) {
+        log.info(() -> String.format("Registering '%s' management bean.", OBJECT_NAME));
+        try {
+            server.registerMBean(new TypeMetaResolvingContextManagement(), new ObjectName(OBJECT_NAME));
+        } catch (JMException jmException) {
+            String message = String.format("Failed to register '%s' management bean.", OBJECT_NAME);
+            log.error(message);
+            throw new IllegalStateException(message, jmException);
+        }
+    }
+
+    /**
+     * Unregisters management bean from platform MBean server.
+     *
+     * @throws IllegalStateException if bean cannot be unregistered, e.g. it isn't registered.
+     */
+    public static void unregister() {
+        unregister(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Unregisters management bean from received MBean server.
+     *
+     * @param server <code>MBeanServer</code> to unregister bean from.
+     * @throws IllegalStateException if bean cannot be unregistered, e.g. it isn't registered.
+     */
+    public static void unregister(MBeanServer server) {
+        log.info(() -> String.format("Unregistering '%s' management bean.", OBJECT_NAME));
+        try {
+            server.unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (JMException jmException) {
+            String message = String.format("Failed to unregister '%s' management bean.", OBJECT_NAME);
+            log.error(message);
+            throw new IllegalStateException(message, jmException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearCaches() {
+        log.info("Clearing resolving context caches.");
+        TypeMetaResolvingContextManager.resetContext();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getHierarchyCacheEvictionCount() {
+        CacheStatistics statistics = getHierarchyStorageStatistics();
+        return statistics == null ? 0L : statistics.getEvictionCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getHierarchyCacheHitRatio() {
+        CacheStatistics statistics = getHierarchyStorageStatistics();
+        if (statistics != null) {
+            return statistics.getHitRatio();
+        }
+        ResolvingMetricsSnapshot snapshot = getMetricsSnapshot();
+        return snapshot == null ? -1.0 : snapshot.getHierarchyCacheHitRatio();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHierarchyStorageSize() {
+        CacheStatistics statistics = getHierarchyStorageStatistics();
+        if (statistics != null) {
+            return statistics.getSize();
+        }
+        ResolvingMetricsSnapshot snapshot = getMetricsSnapshot();
+        return snapshot == null ? -1 : snapshot.getHierarchyStorageSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, String> getModules() {
+        ResolvingContext<TypeMeta<?>> context = TypeMetaResolvingContextManager.getContext();
+        Map<String, String> modules = new LinkedHashMap<>();
+        putModule(modules, ResolvingModuleType.FIELD_TYPE_CACHE, context.getFieldTypeCache());
+        putModule(modules, ResolvingModuleType.MAPPED_VARIABLE_HIERARCHY_STORAGE,
+                context.getMappedVariableHierarchyStorage());
+        putModule(modules, ResolvingModuleType.RESOLUTION_PLAN_STORAGE, context.getResolutionPlanStorage());
+        putModule(modules, ResolvingModuleType.RESOLVING_METRICS, context.getResolvingMetrics());
+        putModule(modules, ResolvingModuleType.TYPE_RESOLVER_PICKER, context.getTypeResolverPicker());
+        putModule(modules, ResolvingModuleType.TYPE_RESOLVER_STORAGE, context.getTypeResolverStorage());
+        putModule(modules, ResolvingModuleType.TYPE_VARIABLE_MAPPER, context.getTypeVariableMapper());
+        return modules;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String[] getSlowestRecentlyResolvedTypes() {
+        ResolvingMetricsSnapshot snapshot = getMetricsSnapshot();
+        if (snapshot == null) {
+            return new String[0];
+        }
+        List<TypeVariablesMapping> mappings = snapshot.getSlowestRecentTypeVariablesMappings(SLOWEST_TYPES_NUMBER);
+        return mappings.stream().map(mapping -> String.format("%s: %d us", mapping.getTypeMeta(),
+                TimeUnit.NANOSECONDS.toMicros(mapping.getDurationNanos()))).toArray(String[]::new);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refreshContext() {
+        log.info("Refreshing resolving context.");
+        TypeMetaResolvingContextManager.refreshContext();
+    }
+
+    private CacheStatistics getHierarchyStorageStatistics() {
+        MappedVariableHierarchyStorage<TypeMeta<?>> storage = TypeMetaResolvingContextManager.getContext()
+                .getMappedVariableHierarchyStorage();
+        if (storage instanceof BoundedMappedVariableHierarchyStorage) {
+            return ((BoundedMappedVariableHierarchyStorage<TypeMeta<?>>) storage).getStatistics();
+        }
+        return null;
+    }
+
+    private ResolvingMetricsSnapshot getMetricsSnapshot() {
+        ResolvingMetrics metrics = TypeMetaResolvingContextManager.getContext().getResolvingMetrics();
+        if (metrics instanceof InMemoryResolvingMetrics) {
+            return ((InMemoryResolvingMetrics) metrics).getSnapshot();
+        }
+        return null;
+    }
+
+    private void putModule(Map<String, String> modules, ResolvingModuleType moduleType, Object module) {
+        modules.put(moduleType.name(), module.getClass().getName());
+    }
+}
@@ -24,19 +24,26 @@
 package com.github.vladislavsevruk.resolver.context;
 
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.extern.log4j.Log4j2;
 
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Provides resolving context and refreshes it.
  */
+@Log4j2
 public final class TypeMetaResolvingContextManager {
 
-    private static final ReadWriteLock DEFAULT_CONTEXT_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock SETTINGS_LOCK = new ReentrantReadWriteLock();
-    private static boolean autoRefreshContext = true;
-    private static ResolvingContext<TypeMeta<?>> defaultContext = newContext();
+    private static final Object REFRESH_LOCK = new Object();
+    private static volatile boolean autoRefreshContext = true;
+    // modules snapshot used for current context creation, guarded by REFRESH_LOCK
+    private static ResolvingModules contextModules = TypeMetaResolvingModuleFactory.modules();
+    // context is immutable snapshot so single volatile read is enough to get it
+    private static volatile TypeMetaResolvingContext defaultContext = new TypeMetaResolvingContext(contextModules,
+            null, EnumSet.allOf(ResolvingModuleType.class));
+    private static volatile ContextRefreshReport lastRefreshReport;
 
     private TypeMetaResolvingContextManager() {
     }
@@ -62,10 +69,14 @@ public final class TypeMetaResolvingContextManager {
      */
     @SuppressWarnings("java:S1452")
     public static ResolvingContext<TypeMeta<?>> getContext() {
-        DEFAULT_CONTEXT_LOCK.readLock().lock();
-        ResolvingContext<TypeMeta<?>> contextToReturn = defaultContext;
-        DEFAULT_CONTEXT_LOCK.readLock().unlock();
-        return contextToReturn;
+        return defaultContext;
+    }
+
+    /**
+     * Returns report of the last resolving context refresh or <code>null</code> if context wasn't refreshed yet.
+     */
+    public static ContextRefreshReport getLastRefreshReport() {
+        return lastRefreshReport;
     }
 
     /**
@@ -73,33 +84,56 @@ public final class TypeMetaResolvingContextManager {
      * <code>false</code> otherwise.
      */
     static boolean isAutoRefreshContext() {
-        SETTINGS_LOCK.readLock().lock();
-        boolean valueToReturn = autoRefreshContext;
-        SETTINGS_LOCK.readLock().unlock();
-        return valueToReturn;
+        return autoRefreshContext;
     }
 
     /**
-     * Re-initializes <code>ResolvingContext</code> with values from <code>ResolvingModuleFactory</code>.
+     * Re-initializes <code>ResolvingContext</code> with values from <code>ResolvingModuleFactory</code>. Cached state
+     * of modules that implement <code>StatefulResolvingModule</code> is carried over to new context if neither these
+     * modules nor modules their state depends on were replaced.
      *
      * @see TypeMetaResolvingModuleFactory
      */
     static void refreshContext() {
-        DEFAULT_CONTEXT_LOCK.writeLock().lock();
-        defaultContext = newContext();
-        DEFAULT_CONTEXT_LOCK.writeLock().unlock();
+        refreshContext(true);
+    }
+
+    /**
+     * Re-initializes <code>ResolvingContext</code> with values from <code>ResolvingModuleFactory</code> without
+     * carrying over cached state of modules so all context caches are dropped.
+     *
+     * @see TypeMetaResolvingModuleFactory
+     */
+    static void resetContext() {
+        refreshContext(false);
     }
 
     private static void autoRefreshContext(boolean isTrue) {
-        SETTINGS_LOCK.writeLock().lock();
         autoRefreshContext = isTrue;
-        SETTINGS_LOCK.writeLock().unlock();
     }
 
-    private static ResolvingContext<TypeMeta<?>> newContext() {
-        return new TypeMetaResolvingContext(TypeMetaResolvingModuleFactory.mappedVariableHierarchyStorage(),
-                TypeMetaResolvingModuleFactory.typeResolverPicker(),
-                TypeMetaResolvingModuleFactory.typeResolverStorage(),
-                TypeMetaResolvingModuleFactory.typeVariableMapper());
+    private static ContextRefreshReport newRefreshReport(Set<ResolvingModuleType> replacedModules,
+            Set<ResolvingModuleType> keptModules) {
+        Set<ResolvingModuleType> droppedModules = EnumSet.allOf(ResolvingModuleType.class);
+        droppedModules.removeAll(keptModules);
+        return new ContextRefreshReport(Collections.unmodifiableSet(droppedModules),
+                Collections.unmodifiableSet(EnumSet.copyOf(keptModules)),
+                Collections.unmodifiableSet(replacedModules));
+    }
+
+    private static void refreshContext(boolean carryOverState) {
+        // serializes refreshes so context built from latest modules snapshot is always published last
+        synchronized (REFRESH_LOCK) {
+            ResolvingModules modules = TypeMetaResolvingModuleFactory.modules();
+            Set<ResolvingModuleType> replacedModules = modules.getReplacedModules(contextModules);
+            TypeMetaResolvingContext context = new TypeMetaResolvingContext(modules,
+                    carryOverState ? defaultContext : null, replacedModules);
+            ContextRefreshReport report = newRefreshReport(replacedModules, context.getKeptModules());
+            log.info(() -> String.format("Refreshed resolving context: replaced %s, kept %s, dropped %s.",
+                    report.getReplacedModules(), report.getKeptModules(), report.getDroppedModules()));
+            contextModules = modules;
+            defaultContext = context;
+            lastRefreshReport = report;
+        }
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.context;
+
+import java.util.Map;
+
+/**
+ * Management interface for monitoring and controlling resolving context provided by
+ * <code>TypeMetaResolvingContextManager</code>.
+ *
+ * @see TypeMetaResolvingContextManagement
+ */
+public interface TypeMetaResolvingContextManagerMXBean {
+
+    /**
+     * Re-initializes resolving context without carrying over cached state of modules so all context caches are
+     * dropped.
+     */
+    void clearCaches();
+
+    /**
+     * Returns number of hierarchies evicted from mapped variable hierarchy storage or <code>0</code> if storage
+     * doesn't evict hierarchies.
+     */
+    long getHierarchyCacheEvictionCount();
+
+    /**
+     * Returns ratio of mapped variable hierarchy cache hits to total number of requests or <code>-1.0</code> if
+     * neither hierarchy storage nor resolving metrics module collect statistics.
+     */
+    double getHierarchyCacheHitRatio();
+
+    /**
+     * Returns number of hierarchies stored at mapped variable hierarchy storage or <code>-1</code> if neither
+     * hierarchy storage nor resolving metrics module collect statistics.
+     */
+    int getHierarchyStorageSize();
+
+    /**
+     * Returns names of module implementation classes used by current resolving context mapped by module type.
+     */
+    Map<String, String> getModules();
+
+    /**
+     * Returns the slowest of recently resolved types with their type variables mapping time or empty array if
+     * resolving metrics module doesn't keep recent mappings.
+     */
+    String[] getSlowestRecentlyResolvedTypes();
+
+    /**
+     * Re-initializes resolving context with values from <code>ResolvingModuleFactory</code> carrying over cached state
+     * of modules that weren't affected by modules replacement.
+     */
+    void refreshContext();
+}
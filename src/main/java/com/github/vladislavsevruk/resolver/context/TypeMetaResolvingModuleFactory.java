@@ -23,15 +23,17 @@
  */
 package com.github.vladislavsevruk.resolver.context;
 
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetrics;
+import com.github.vladislavsevruk.resolver.resolver.field.cache.FieldTypeCache;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.plan.ResolutionPlanStorage;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
 import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Provides replaceable modules schemas required for resolving mechanism.
@@ -39,29 +41,49 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @Log4j2
 public final class TypeMetaResolvingModuleFactory {
 
-    private static final ReadWriteLock MAPPED_VARIABLE_HIERARCHY_STORAGE_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock TYPE_RESOLVER_PICKER_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock TYPE_RESOLVER_STORAGE_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock TYPE_VARIABLE_MAPPER_LOCK = new ReentrantReadWriteLock();
-    private static ResolvingModuleFactoryMethod<TypeMeta<?>, MappedVariableHierarchyStorage<TypeMeta<?>>>
-            mappedVariableHierarchyStorage;
-    private static ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverPicker<TypeMeta<?>>> typeResolverPicker;
-    private static ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverStorage<TypeMeta<?>>> typeResolverStorage;
-    private static ResolvingModuleFactoryMethod<TypeMeta<?>, TypeVariableMapper<TypeMeta<?>>> typeVariableMapper;
+    // modules are replaced rarely so they are kept at immutable snapshot that is read without locking
+    private static final AtomicReference<ResolvingModules> MODULES = new AtomicReference<>(ResolvingModules.DEFAULT);
 
     private TypeMetaResolvingModuleFactory() {
     }
 
+    /**
+     * Returns current instance of <code>ResolvingModuleFactoryMethod</code> for <code>FieldTypeCache</code>.
+     */
+    @SuppressWarnings("java:S1452")
+    public static ResolvingModuleFactoryMethod<TypeMeta<?>, FieldTypeCache<TypeMeta<?>>> fieldTypeCache() {
+        return MODULES.get().getFieldTypeCache();
+    }
+
     /**
      * Returns current instance of <code>ResolvingModuleFactoryMethod</code> for <code>MappedVariableHierarchyStorage</code>.
      */
     @SuppressWarnings("java:S1452")
     public static ResolvingModuleFactoryMethod<TypeMeta<?>, MappedVariableHierarchyStorage<TypeMeta<?>>> mappedVariableHierarchyStorage() {
-        MAPPED_VARIABLE_HIERARCHY_STORAGE_LOCK.readLock().lock();
-        ResolvingModuleFactoryMethod<TypeMeta<?>, MappedVariableHierarchyStorage<TypeMeta<?>>> storageToReturn
-                = TypeMetaResolvingModuleFactory.mappedVariableHierarchyStorage;
-        MAPPED_VARIABLE_HIERARCHY_STORAGE_LOCK.readLock().unlock();
-        return storageToReturn;
+        return MODULES.get().getMappedVariableHierarchyStorage();
+    }
+
+    /**
+     * Returns current snapshot of all modules factory methods.
+     */
+    static ResolvingModules modules() {
+        return MODULES.get();
+    }
+
+    /**
+     * Replaces instance of <code>ResolvingModuleFactoryMethod</code> for <code>FieldTypeCache</code>. All further
+     * resolves will use new instance.
+     *
+     * @param cache new instance of <code>ResolvingModuleFactoryMethod</code> for <code>FieldTypeCache</code>.
+     */
+    public static void replaceFieldTypeCache(
+            ResolvingModuleFactoryMethod<TypeMeta<?>, FieldTypeCache<TypeMeta<?>>> cache) {
+        log.info(() -> String
+                .format("Replacing FieldTypeCache by '%s'.", cache == null ? null : cache.getClass().getName()));
+        MODULES.updateAndGet(modules -> modules.withFieldTypeCache(cache));
+        if (TypeMetaResolvingContextManager.isAutoRefreshContext()) {
+            TypeMetaResolvingContextManager.refreshContext();
+        }
     }
 
     /**
@@ -72,11 +94,40 @@ public final class TypeMetaResolvingModuleFactory {
      */
     public static void replaceMappedVariableHierarchyStorage(
             ResolvingModuleFactoryMethod<TypeMeta<?>, MappedVariableHierarchyStorage<TypeMeta<?>>> storage) {
-        MAPPED_VARIABLE_HIERARCHY_STORAGE_LOCK.writeLock().lock();
         log.info(() -> String.format("Replacing MappedVariableHierarchyStorage by '%s'.",
                 storage == null ? null : storage.getClass().getName()));
-        TypeMetaResolvingModuleFactory.mappedVariableHierarchyStorage = storage;
-        MAPPED_VARIABLE_HIERARCHY_STORAGE_LOCK.writeLock().unlock();
+        MODULES.updateAndGet(modules -> modules.withMappedVariableHierarchyStorage(storage));
+        if (TypeMetaResolvingContextManager.isAutoRefreshContext()) {
+            TypeMetaResolvingContextManager.refreshContext();
+        }
+    }
+
+    /**
+     * Replaces instance of <code>ResolvingModuleFactoryMethod</code> for <code>ResolutionPlanStorage</code>. All
+     * further resolves will use new instance.
+     *
+     * @param storage new instance of <code>ResolvingModuleFactoryMethod</code> for <code>ResolutionPlanStorage</code>.
+     */
+    public static void replaceResolutionPlanStorage(
+            ResolvingModuleFactoryMethod<TypeMeta<?>, ResolutionPlanStorage<TypeMeta<?>>> storage) {
+        log.info(() -> String.format("Replacing ResolutionPlanStorage by '%s'.",
+                storage == null ? null : storage.getClass().getName()));
+        MODULES.updateAndGet(modules -> modules.withResolutionPlanStorage(storage));
+        if (TypeMetaResolvingContextManager.isAutoRefreshContext()) {
+            TypeMetaResolvingContextManager.refreshContext();
+        }
+    }
+
+    /**
+     * Replaces instance of <code>ResolvingModuleFactoryMethod</code> for <code>ResolvingMetrics</code>. All further
+     * resolves will report metrics to new instance.
+     *
+     * @param metrics new instance of <code>ResolvingModuleFactoryMethod</code> for <code>ResolvingMetrics</code>.
+     */
+    public static void replaceResolvingMetrics(ResolvingModuleFactoryMethod<TypeMeta<?>, ResolvingMetrics> metrics) {
+        log.info(() -> String.format("Replacing ResolvingMetrics by '%s'.",
+                metrics == null ? null : metrics.getClass().getName()));
+        MODULES.updateAndGet(modules -> modules.withResolvingMetrics(metrics));
         if (TypeMetaResolvingContextManager.isAutoRefreshContext()) {
             TypeMetaResolvingContextManager.refreshContext();
         }
@@ -90,11 +141,9 @@ public final class TypeMetaResolvingModuleFactory {
      */
     public static void replaceTypeResolverPicker(
             ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverPicker<TypeMeta<?>>> picker) {
-        TYPE_RESOLVER_PICKER_LOCK.writeLock().lock();
         log.info(() -> String
                 .format("Replacing TypeResolverPicker by '%s'.", picker == null ? null : picker.getClass().getName()));
-        TypeMetaResolvingModuleFactory.typeResolverPicker = picker;
-        TYPE_RESOLVER_PICKER_LOCK.writeLock().unlock();
+        MODULES.updateAndGet(modules -> modules.withTypeResolverPicker(picker));
         if (TypeMetaResolvingContextManager.isAutoRefreshContext()) {
             TypeMetaResolvingContextManager.refreshContext();
         }
@@ -108,11 +157,9 @@ public final class TypeMetaResolvingModuleFactory {
      */
     public static void replaceTypeResolverStorage(
             ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverStorage<TypeMeta<?>>> storage) {
-        TYPE_RESOLVER_STORAGE_LOCK.writeLock().lock();
         log.info(() -> String.format("Replacing TypeResolverStorage by '%s'.",
                 storage == null ? null : storage.getClass().getName()));
-        TypeMetaResolvingModuleFactory.typeResolverStorage = storage;
-        TYPE_RESOLVER_STORAGE_LOCK.writeLock().unlock();
+        MODULES.updateAndGet(modules -> modules.withTypeResolverStorage(storage));
         if (TypeMetaResolvingContextManager.isAutoRefreshContext()) {
             TypeMetaResolvingContextManager.refreshContext();
         }
@@ -126,26 +173,35 @@ public final class TypeMetaResolvingModuleFactory {
      */
     public static void replaceTypeVariableMapper(
             ResolvingModuleFactoryMethod<TypeMeta<?>, TypeVariableMapper<TypeMeta<?>>> mapper) {
-        TYPE_VARIABLE_MAPPER_LOCK.writeLock().lock();
         log.info(() -> String
                 .format("Replacing TypeVariableMapper by '%s'.", mapper == null ? null : mapper.getClass().getName()));
-        TypeMetaResolvingModuleFactory.typeVariableMapper = mapper;
-        TYPE_VARIABLE_MAPPER_LOCK.writeLock().unlock();
+        MODULES.updateAndGet(modules -> modules.withTypeVariableMapper(mapper));
         if (TypeMetaResolvingContextManager.isAutoRefreshContext()) {
             TypeMetaResolvingContextManager.refreshContext();
         }
     }
 
+    /**
+     * Returns current instance of <code>ResolvingModuleFactoryMethod</code> for <code>ResolutionPlanStorage</code>.
+     */
+    @SuppressWarnings("java:S1452")
+    public static ResolvingModuleFactoryMethod<TypeMeta<?>, ResolutionPlanStorage<TypeMeta<?>>> resolutionPlanStorage() {
+        return MODULES.get().getResolutionPlanStorage();
+    }
+
+    /**
+     * Returns current instance of <code>ResolvingModuleFactoryMethod</code> for <code>ResolvingMetrics</code>.
+     */
+    public static ResolvingModuleFactoryMethod<TypeMeta<?>, ResolvingMetrics> resolvingMetrics() {
+        return MODULES.get().getResolvingMetrics();
+    }
+
     /**
      * Returns current instance of <code>ResolvingModuleFactoryMethod</code> for <code>TypeResolverPicker</code>.
      */
     @SuppressWarnings("java:S1452")
     public static ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverPicker<TypeMeta<?>>> typeResolverPicker() {
-        TYPE_RESOLVER_PICKER_LOCK.readLock().lock();
-        ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverPicker<TypeMeta<?>>> pickerToReturn
-                = TypeMetaResolvingModuleFactory.typeResolverPicker;
-        TYPE_RESOLVER_PICKER_LOCK.readLock().unlock();
-        return pickerToReturn;
+        return MODULES.get().getTypeResolverPicker();
     }
 
     /**
@@ -153,11 +209,7 @@ public final class TypeMetaResolvingModuleFactory {
      */
     @SuppressWarnings("java:S1452")
     public static ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverStorage<TypeMeta<?>>> typeResolverStorage() {
-        TYPE_RESOLVER_STORAGE_LOCK.readLock().lock();
-        ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverStorage<TypeMeta<?>>> storageToReturn
-                = TypeMetaResolvingModuleFactory.typeResolverStorage;
-        TYPE_RESOLVER_STORAGE_LOCK.readLock().unlock();
-        return storageToReturn;
+        return MODULES.get().getTypeResolverStorage();
     }
 
     /**
@@ -165,10 +217,6 @@ public final class TypeMetaResolvingModuleFactory {
      */
     @SuppressWarnings("java:S1452")
     public static ResolvingModuleFactoryMethod<TypeMeta<?>, TypeVariableMapper<TypeMeta<?>>> typeVariableMapper() {
-        TYPE_VARIABLE_MAPPER_LOCK.readLock().lock();
-        ResolvingModuleFactoryMethod<TypeMeta<?>, TypeVariableMapper<TypeMeta<?>>> mapperToReturn
-                = TypeMetaResolvingModuleFactory.typeVariableMapper;
-        TYPE_VARIABLE_MAPPER_LOCK.readLock().unlock();
-        return mapperToReturn;
+        return MODULES.get().getTypeVariableMapper();
     }
 }
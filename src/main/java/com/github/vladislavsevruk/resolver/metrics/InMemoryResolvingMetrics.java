@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of <code>ResolvingMetrics</code> that accumulates metrics in memory. Accumulated values can be
+ * received as snapshot and exported to external monitoring system. Fixed number of the most recent type variables
+ * mappings is kept for finding slow types.
+ *
+ * @see ResolvingMetrics
+ * @see ResolvingMetricsSnapshot
+ */
+public final class InMemoryResolvingMetrics implements ResolvingMetrics {
+
+    public static final int DEFAULT_RECENT_MAPPINGS_SIZE = 64;
+    private final LongAdder hierarchyCacheMissCount = new LongAdder();
+    private final LongAdder hierarchyRequestCount = new LongAdder();
+    private final AtomicReferenceArray<TypeVariablesMapping> recentMappings;
+    private final AtomicLong recentMappingsIndex = new AtomicLong();
+    private final Map<ResolvingEntryPoint, LongAdder> resolveCounts = createResolveCounts();
+    private final LongAdder typeVariablesMappingCount = new LongAdder();
+    private final LongAdder typeVariablesMappingTimeNanos = new LongAdder();
+    private volatile int hierarchyStorageSize;
+
+    public InMemoryResolvingMetrics() {
+        this(DEFAULT_RECENT_MAPPINGS_SIZE);
+    }
+
+    public InMemoryResolvingMetrics(int recentMappingsSize) {
+        if (recentMappingsSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Number of recent mappings should be positive but was " + recentMappingsSize);
+        }
+        this.recentMappings = new AtomicReferenceArray<>(recentMappingsSize);
+    }
+
+    /**
+     * Returns snapshot of accumulated metrics. Values are read without locking so snapshot taken during resolving may
+     * be slightly inconsistent.
+     */
+    public ResolvingMetricsSnapshot getSnapshot() {
+        Map<ResolvingEntryPoint, Long> resolveCountsSnapshot = new EnumMap<>(ResolvingEntryPoint.class);
+        resolveCounts.forEach((entryPoint, count) -> resolveCountsSnapshot.put(entryPoint, count.sum()));
+        List<TypeVariablesMapping> recentMappingsSnapshot = new ArrayList<>(recentMappings.length());
+        for (int i = 0; i < recentMappings.length(); ++i) {
+            TypeVariablesMapping mapping = recentMappings.get(i);
+            if (mapping != null) {
+                recentMappingsSnapshot.add(mapping);
+            }
+        }
+        return new ResolvingMetricsSnapshot(hierarchyCacheMissCount.sum(), hierarchyRequestCount.sum(),
+                hierarchyStorageSize, Collections.unmodifiableList(recentMappingsSnapshot),
+                Collections.unmodifiableMap(resolveCountsSnapshot), typeVariablesMappingCount.sum(),
+                typeVariablesMappingTimeNanos.sum());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordHierarchyCacheMiss() {
+        hierarchyCacheMissCount.increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordHierarchyRequest() {
+        hierarchyRequestCount.increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordHierarchyStorageSize(int size) {
+        hierarchyStorageSize = size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordResolve(ResolvingEntryPoint entryPoint) {
+        resolveCounts.get(entryPoint).increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordTypeVariablesMapping(TypeMeta<?> typeMeta, long durationNanos) {
+        typeVariablesMappingCount.increment();
+        typeVariablesMappingTimeNanos.add(durationNanos);
+        // the oldest mapping is overwritten when buffer is full
+        int index = (int) (recentMappingsIndex.getAndIncrement() % recentMappings.length());
+        recentMappings.set(index, new TypeVariablesMapping(typeMeta.toString(), durationNanos));
+    }
+
+    private static Map<ResolvingEntryPoint, LongAdder> createResolveCounts() {
+        Map<ResolvingEntryPoint, LongAdder> resolveCounts = new EnumMap<>(ResolvingEntryPoint.class);
+        for (ResolvingEntryPoint entryPoint : ResolvingEntryPoint.values()) {
+            resolveCounts.put(entryPoint, new LongAdder());
+        }
+        return resolveCounts;
+    }
+}
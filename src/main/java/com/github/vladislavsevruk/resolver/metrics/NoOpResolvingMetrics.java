@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Implementation of <code>ResolvingMetrics</code> that ignores all metrics. Used by default.
+ *
+ * @see ResolvingMetrics
+ */
+public final class NoOpResolvingMetrics implements ResolvingMetrics {
+
+    public static final NoOpResolvingMetrics INSTANCE = new NoOpResolvingMetrics();
+
+    private NoOpResolvingMetrics() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordHierarchyCacheMiss() {
+        // metrics are ignored
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordHierarchyRequest() {
+        // metrics are ignored
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordHierarchyStorageSize(int size) {
+        // metrics are ignored
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordResolve(ResolvingEntryPoint entryPoint) {
+        // metrics are ignored
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordTypeVariablesMapping(TypeMeta<?> typeMeta, long durationNanos) {
+        // metrics are ignored
+    }
+}
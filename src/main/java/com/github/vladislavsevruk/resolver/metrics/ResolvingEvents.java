@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+
+/**
+ * Emits Java Flight Recorder events for type resolving. Custom JFR events aren't available at Java 8 so this
+ * implementation ignores all events, implementation that emits them is placed at Java 11 layer of multi-release jar.
+ * Emitters should check if event is enabled before collecting its values.
+ */
+public final class ResolvingEvents {
+
+    private ResolvingEvents() {
+    }
+
+    /**
+     * Emits event about resolved executable.
+     *
+     * @param typeMeta      <code>TypeMeta</code> of class executable was resolved for.
+     * @param executable    resolved <code>Executable</code>.
+     * @param cacheHit      <code>true</code> if resolved signature was taken from cache, <code>false</code> otherwise.
+     * @param durationNanos resolving duration in nanoseconds.
+     */
+    public static void executableResolved(TypeMeta<?> typeMeta, Executable executable, boolean cacheHit,
+            long durationNanos) {
+        // events aren't supported
+    }
+
+    /**
+     * Emits event about resolved field.
+     *
+     * @param typeMeta      <code>TypeMeta</code> of class field was resolved for.
+     * @param field         resolved <code>Field</code>.
+     * @param cacheHit      <code>true</code> if resolved type was taken from cache, <code>false</code> otherwise.
+     * @param durationNanos resolving duration in nanoseconds.
+     */
+    public static void fieldResolved(TypeMeta<?> typeMeta, Field field, boolean cacheHit, long durationNanos) {
+        // events aren't supported
+    }
+
+    /**
+     * Emits event about built mapped variable hierarchy.
+     *
+     * @param typeMeta      <code>TypeMeta</code> of class hierarchy was built for.
+     * @param durationNanos building duration in nanoseconds.
+     */
+    public static void hierarchyBuilt(TypeMeta<?> typeMeta, long durationNanos) {
+        // events aren't supported
+    }
+
+    /**
+     * Returns <code>true</code> if resolved executable events are recorded, <code>false</code> otherwise.
+     */
+    public static boolean isExecutableResolvedEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns <code>true</code> if resolved field events are recorded, <code>false</code> otherwise.
+     */
+    public static boolean isFieldResolvedEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns <code>true</code> if built hierarchy events are recorded, <code>false</code> otherwise.
+     */
+    public static boolean isHierarchyBuiltEnabled() {
+        return false;
+    }
+}
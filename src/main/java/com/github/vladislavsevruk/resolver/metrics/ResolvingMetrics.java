@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Receives usage metrics of resolving modules. Methods are called at resolving path so implementations should be
+ * thread-safe and shouldn't block.
+ *
+ * @see InMemoryResolvingMetrics
+ * @see NoOpResolvingMetrics
+ */
+public interface ResolvingMetrics {
+
+    /**
+     * Records request of mapped variable hierarchy that wasn't found at storage and had to be built.
+     */
+    void recordHierarchyCacheMiss();
+
+    /**
+     * Records request of mapped variable hierarchy from storage. Requests that weren't followed by
+     * <code>recordHierarchyCacheMiss</code> call are cache hits.
+     */
+    void recordHierarchyRequest();
+
+    /**
+     * Records number of hierarchies stored at mapped variable hierarchy storage. Reported by storages that are able to
+     * determine their size when new hierarchy is built.
+     *
+     * @param size current number of stored hierarchies.
+     */
+    void recordHierarchyStorageSize(int size);
+
+    /**
+     * Records resolve performed by received entry point.
+     *
+     * @param entryPoint <code>ResolvingEntryPoint</code> that performed resolve.
+     */
+    void recordResolve(ResolvingEntryPoint entryPoint);
+
+    /**
+     * Records time spent for mapping type variables of class hierarchy.
+     *
+     * @param typeMeta      <code>TypeMeta</code> which hierarchy type variables were mapped.
+     * @param durationNanos mapping duration in nanoseconds.
+     */
+    void recordTypeVariablesMapping(TypeMeta<?> typeMeta, long durationNanos);
+}
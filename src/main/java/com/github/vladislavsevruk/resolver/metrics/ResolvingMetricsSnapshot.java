@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import lombok.Value;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of accumulated resolving metrics.
+ *
+ * @see InMemoryResolvingMetrics
+ */
+@Value
+public class ResolvingMetricsSnapshot {
+
+    long hierarchyCacheMissCount;
+    long hierarchyRequestCount;
+    int hierarchyStorageSize;
+    List<TypeVariablesMapping> recentTypeVariablesMappings;
+    Map<ResolvingEntryPoint, Long> resolveCounts;
+    long typeVariablesMappingCount;
+    long typeVariablesMappingTimeNanos;
+
+    /**
+     * Returns number of mapped variable hierarchy requests that were served from storage.
+     */
+    public long getHierarchyCacheHitCount() {
+        return Math.max(0L, hierarchyRequestCount - hierarchyCacheMissCount);
+    }
+
+    /**
+     * Returns ratio of mapped variable hierarchy cache hits to total number of requests or <code>1.0</code> if there
+     * were no requests yet.
+     */
+    public double getHierarchyCacheHitRatio() {
+        return hierarchyRequestCount == 0 ? 1.0 : (double) getHierarchyCacheHitCount() / hierarchyRequestCount;
+    }
+
+    /**
+     * Returns the slowest of recent type variables mappings ordered by duration descending.
+     *
+     * @param limit maximum number of mappings to return.
+     * @return <code>List</code> with the slowest recent type variables mappings.
+     */
+    public List<TypeVariablesMapping> getSlowestRecentTypeVariablesMappings(int limit) {
+        return recentTypeVariablesMappings.stream()
+                .sorted(Comparator.comparingLong(TypeVariablesMapping::getDurationNanos).reversed()).limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns number of resolves performed by received entry point.
+     *
+     * @param entryPoint <code>ResolvingEntryPoint</code> to get resolves number for.
+     * @return number of resolves performed by received entry point.
+     */
+    public long getResolveCount(ResolvingEntryPoint entryPoint) {
+        return resolveCounts.getOrDefault(entryPoint, 0L);
+    }
+}
@@ -25,6 +25,7 @@ package com.github.vladislavsevruk.resolver.resolver.annotated.array;
 
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeMetaPool;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Array;
@@ -41,8 +42,8 @@ public final class AnnotatedArrayTypeResolver extends AbstractAnnotatedArrayType
 
     @Override
     protected TypeMeta<?> createResolvedArray(AnnotatedType annotatedType, TypeMeta<?> resolvedComponentType) {
-        return new TypeMeta<>(resolveArrayType(annotatedType, resolvedComponentType),
-                new TypeMeta<?>[]{ resolvedComponentType });
+        return TypeMetaPool.intern(new TypeMeta<>(resolveArrayType(annotatedType, resolvedComponentType),
+                new TypeMeta<?>[]{ resolvedComponentType }));
     }
 
     private Class<?> getArrayTypeByComponent(TypeMeta<?> actualParameters) {
@@ -25,6 +25,7 @@ package com.github.vladislavsevruk.resolver.resolver.annotated.parameterized;
 
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeMetaPool;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -44,6 +45,6 @@ public final class AnnotatedParameterizedTypeResolver extends AbstractAnnotatedP
 
     @Override
     protected TypeMeta<?> createResolvedParameterizedType(Class<?> rawType, TypeMeta<?>[] resolvedArgumentTypes) {
-        return new TypeMeta<>(rawType, resolvedArgumentTypes);
+        return TypeMetaPool.intern(new TypeMeta<>(rawType, resolvedArgumentTypes));
     }
 }
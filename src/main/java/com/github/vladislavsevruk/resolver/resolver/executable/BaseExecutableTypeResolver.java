@@ -24,16 +24,20 @@
 package com.github.vladislavsevruk.resolver.resolver.executable;
 
 import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingEntryPoint;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingEvents;
+import com.github.vladislavsevruk.resolver.resolver.plan.ExecutableResolutionPlan;
 import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
 import lombok.extern.log4j.Log4j2;
 
-import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Executable;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 
 /**
  * Contains common logic for resolving actual types for generic parameters of executables parameter, return and
@@ -46,6 +50,7 @@ import java.util.List;
 public class BaseExecutableTypeResolver<T> implements ExecutableTypeResolver<T> {
 
     protected final ResolvingContext<T> context;
+    private final TypeVariableMap<T> emptyTypeVariableMap = new TypeVariableMap<>();
 
     public BaseExecutableTypeResolver(ResolvingContext<T> context) {
         this.context = context;
@@ -64,16 +69,13 @@ public class BaseExecutableTypeResolver<T> implements ExecutableTypeResolver<T>
      */
     @Override
     public List<T> getExceptionTypes(TypeMeta<?> typeMeta, Executable executable) {
+        context.getResolvingMetrics().recordResolve(ResolvingEntryPoint.EXCEPTION_TYPES);
         log.debug(() -> String.format("Getting parameterized exception types for method '%s'.", executable.getName()));
-        MappedVariableHierarchy<T> hierarchy = context.getMappedVariableHierarchyStorage().get(typeMeta);
-        TypeVariableMap<T> typeVariableMap = hierarchy.getTypeVariableMap(executable.getDeclaringClass());
-        AnnotatedType[] exceptionTypes = executable.getAnnotatedExceptionTypes();
-        List<T> resolvedTypes = new ArrayList<>(exceptionTypes.length);
-        for (AnnotatedType exceptionType : exceptionTypes) {
-            resolvedTypes.add(context.getTypeResolverPicker().pickAnnotatedTypeResolver(exceptionType)
-                    .resolve(typeVariableMap, exceptionType));
+        if (ResolvingEvents.isExecutableResolvedEnabled()) {
+            return resolveWithEvent(typeMeta, executable, ExecutableResolutionPlan::resolveExceptionTypes);
         }
-        return resolvedTypes;
+        return context.getResolutionPlanStorage().getExecutablePlan(executable)
+                .resolveExceptionTypes(getTypeVariableMap(typeMeta, executable));
     }
 
     /**
@@ -97,16 +99,13 @@ public class BaseExecutableTypeResolver<T> implements ExecutableTypeResolver<T>
      */
     @Override
     public List<T> getParameterTypes(TypeMeta<?> typeMeta, Executable executable) {
+        context.getResolvingMetrics().recordResolve(ResolvingEntryPoint.PARAMETER_TYPES);
         log.debug(() -> String.format("Getting parameterized argument types for method '%s'.", executable.getName()));
-        MappedVariableHierarchy<T> hierarchy = context.getMappedVariableHierarchyStorage().get(typeMeta);
-        TypeVariableMap<T> typeVariableMap = hierarchy.getTypeVariableMap(executable.getDeclaringClass());
-        AnnotatedType[] parameterTypes = executable.getAnnotatedParameterTypes();
-        List<T> resolvedTypes = new ArrayList<>(parameterTypes.length);
-        for (AnnotatedType parameterType : parameterTypes) {
-            resolvedTypes.add(context.getTypeResolverPicker().pickAnnotatedTypeResolver(parameterType)
-                    .resolve(typeVariableMap, parameterType));
+        if (ResolvingEvents.isExecutableResolvedEnabled()) {
+            return resolveWithEvent(typeMeta, executable, ExecutableResolutionPlan::resolveParameterTypes);
         }
-        return resolvedTypes;
+        return context.getResolutionPlanStorage().getExecutablePlan(executable)
+                .resolveParameterTypes(getTypeVariableMap(typeMeta, executable));
     }
 
     /**
@@ -130,12 +129,13 @@ public class BaseExecutableTypeResolver<T> implements ExecutableTypeResolver<T>
      */
     @Override
     public T getReturnType(TypeMeta<?> typeMeta, Executable executable) {
+        context.getResolvingMetrics().recordResolve(ResolvingEntryPoint.RETURN_TYPE);
         log.debug(() -> String.format("Getting parameterized return type for method '%s'.", executable.getName()));
-        MappedVariableHierarchy<T> hierarchy = context.getMappedVariableHierarchyStorage().get(typeMeta);
-        TypeVariableMap<T> typeVariableMap = hierarchy.getTypeVariableMap(executable.getDeclaringClass());
-        AnnotatedType annotatedReturnType = executable.getAnnotatedReturnType();
-        return context.getTypeResolverPicker().pickAnnotatedTypeResolver(annotatedReturnType)
-                .resolve(typeVariableMap, annotatedReturnType);
+        if (ResolvingEvents.isExecutableResolvedEnabled()) {
+            return resolveWithEvent(typeMeta, executable, ExecutableResolutionPlan::resolveReturnType);
+        }
+        return context.getResolutionPlanStorage().getExecutablePlan(executable)
+                .resolveReturnType(getTypeVariableMap(typeMeta, executable));
     }
 
     /**
@@ -145,4 +145,103 @@ public class BaseExecutableTypeResolver<T> implements ExecutableTypeResolver<T>
     public T getReturnType(TypeProvider<?> typeProvider, Executable executable) {
         return getReturnType(typeProvider.getTypeMeta(), executable);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResolvedExecutables<T> resolveExecutables(Class<?> clazz) {
+        return resolveExecutables(new TypeMeta<>(clazz));
+    }
+
+    /**
+     * {@inheritDoc} Type variable hierarchy is built only once for all constructors and methods.
+     */
+    @Override
+    public ResolvedExecutables<T> resolveExecutables(TypeMeta<?> typeMeta) {
+        context.getResolvingMetrics().recordResolve(ResolvingEntryPoint.EXECUTABLES);
+        log.debug(() -> String.format("Resolving executables for '%s'.", typeMeta));
+        MappedVariableHierarchy<T> hierarchy = context.getMappedVariableHierarchyStorage().get(typeMeta);
+        Map<Class<?>, TypeVariableMap<T>> typeVariableMaps = new HashMap<>();
+        return ResolvedExecutables
+                .collect(typeMeta, executable -> resolveSignature(hierarchy, typeVariableMaps, executable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResolvedExecutables<T> resolveExecutables(TypeProvider<?> typeProvider) {
+        return resolveExecutables(typeProvider.getTypeMeta());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutableSignature<T> resolveSignature(Class<?> clazz, Executable executable) {
+        return resolveSignature(new TypeMeta<>(clazz), executable);
+    }
+
+    /**
+     * {@inheritDoc} Type variable mapping is looked up only once for all types.
+     */
+    @Override
+    public ExecutableSignature<T> resolveSignature(TypeMeta<?> typeMeta, Executable executable) {
+        context.getResolvingMetrics().recordResolve(ResolvingEntryPoint.SIGNATURE);
+        log.debug(() -> String.format("Getting parameterized signature for method '%s'.", executable.getName()));
+        if (ResolvingEvents.isExecutableResolvedEnabled()) {
+            return resolveWithEvent(typeMeta, executable, this::resolveSignature);
+        }
+        return resolveSignature(context.getResolutionPlanStorage().getExecutablePlan(executable),
+                getTypeVariableMap(typeMeta, executable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutableSignature<T> resolveSignature(TypeProvider<?> typeProvider, Executable executable) {
+        return resolveSignature(typeProvider.getTypeMeta(), executable);
+    }
+
+    private TypeVariableMap<T> getTypeVariableMap(MappedVariableHierarchy<T> hierarchy,
+            Map<Class<?>, TypeVariableMap<T>> typeVariableMaps, Class<?> declaringClass) {
+        if (Object.class.equals(declaringClass)) {
+            // Object isn't present at hierarchies and doesn't have type variables
+            return emptyTypeVariableMap;
+        }
+        return typeVariableMaps.computeIfAbsent(declaringClass, hierarchy::getTypeVariableMap);
+    }
+
+    private TypeVariableMap<T> getTypeVariableMap(TypeMeta<?> typeMeta, Executable executable) {
+        MappedVariableHierarchy<T> hierarchy = context.getMappedVariableHierarchyStorage().get(typeMeta);
+        return hierarchy.getTypeVariableMap(executable.getDeclaringClass());
+    }
+
+    private ExecutableSignature<T> resolveSignature(MappedVariableHierarchy<T> hierarchy,
+            Map<Class<?>, TypeVariableMap<T>> typeVariableMaps, Executable executable) {
+        return resolveSignature(getTypeVariableMap(hierarchy, typeVariableMaps, executable.getDeclaringClass()),
+                executable);
+    }
+
+    private ExecutableSignature<T> resolveSignature(ExecutableResolutionPlan<T> plan,
+            TypeVariableMap<T> typeVariableMap) {
+        // resolved lists are created by plan for this call only so they are wrapped without copying
+        return ExecutableSignature.wrap(plan.resolveParameterTypes(typeVariableMap),
+                plan.resolveReturnType(typeVariableMap), plan.resolveExceptionTypes(typeVariableMap));
+    }
+
+    private ExecutableSignature<T> resolveSignature(TypeVariableMap<T> typeVariableMap, Executable executable) {
+        return resolveSignature(context.getResolutionPlanStorage().getExecutablePlan(executable), typeVariableMap);
+    }
+
+    private <R> R resolveWithEvent(TypeMeta<?> typeMeta, Executable executable,
+            BiFunction<ExecutableResolutionPlan<T>, TypeVariableMap<T>, R> resolvingFunction) {
+        long startNanos = System.nanoTime();
+        R resolvedTypes = resolvingFunction.apply(context.getResolutionPlanStorage().getExecutablePlan(executable),
+                getTypeVariableMap(typeMeta, executable));
+        ResolvingEvents.executableResolved(typeMeta, executable, false, System.nanoTime() - startNanos);
+        return resolvedTypes;
+    }
 }
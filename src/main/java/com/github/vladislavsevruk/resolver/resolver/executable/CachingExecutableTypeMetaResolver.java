@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.cache.EvictionPolicy;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+
+/**
+ * Implementation of <code>CachingExecutableTypeResolver</code> for TypeMeta.
+ *
+ * @see CachingExecutableTypeResolver
+ * @see TypeMeta
+ */
+public final class CachingExecutableTypeMetaResolver extends CachingExecutableTypeResolver<TypeMeta<?>> {
+
+    private final ResolvingContext<TypeMeta<?>> context;
+
+    public CachingExecutableTypeMetaResolver() {
+        this(TypeMetaResolvingContextManager.getContext());
+    }
+
+    public CachingExecutableTypeMetaResolver(ResolvingContext<TypeMeta<?>> context) {
+        this(context, DEFAULT_MAXIMUM_SIZE, EvictionPolicy.LRU);
+    }
+
+    public CachingExecutableTypeMetaResolver(ResolvingContext<TypeMeta<?>> context, int maximumSize,
+            EvictionPolicy evictionPolicy) {
+        super(new ExecutableTypeMetaResolver(context), maximumSize, evictionPolicy);
+        this.context = context;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected TypeMeta<?> getTypeMeta(TypeProvider<?> typeProvider) {
+        return typeProvider.getTypeMeta(context);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.cache.BoundedCache;
+import com.github.vladislavsevruk.resolver.cache.CacheStatistics;
+import com.github.vladislavsevruk.resolver.cache.EvictionPolicy;
+import com.github.vladislavsevruk.resolver.cache.MemberCacheKey;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingEvents;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+
+import java.lang.reflect.Executable;
+import java.util.List;
+
+/**
+ * Decorates <code>ExecutableTypeResolver</code> with bounded cache of resolved signatures per owner type and
+ * executable. All types of executable are resolved at once on first request and following requests for the same owner
+ * type and executable return immutable lists shared between callers.
+ *
+ * @param <T> type of mapped value for type variable.
+ * @see ExecutableTypeResolver
+ */
+public class CachingExecutableTypeResolver<T> implements ExecutableTypeResolver<T> {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+    private final BoundedCache<MemberCacheKey, ExecutableSignature<T>> cache;
+    private final ExecutableTypeResolver<T> delegate;
+
+    public CachingExecutableTypeResolver(ExecutableTypeResolver<T> delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE, EvictionPolicy.LRU);
+    }
+
+    public CachingExecutableTypeResolver(ExecutableTypeResolver<T> delegate, int maximumSize,
+            EvictionPolicy evictionPolicy) {
+        this.delegate = delegate;
+        this.cache = new BoundedCache<>(maximumSize, evictionPolicy);
+    }
+
+    /**
+     * Removes all cached signatures.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> getExceptionTypes(Class<?> clazz, Executable executable) {
+        return getExceptionTypes(new TypeMeta<>(clazz), executable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> getExceptionTypes(TypeMeta<?> typeMeta, Executable executable) {
+        return getSignature(typeMeta, executable).getExceptionTypes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> getExceptionTypes(TypeProvider<?> typeProvider, Executable executable) {
+        return getExceptionTypes(getTypeMeta(typeProvider), executable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> getParameterTypes(Class<?> clazz, Executable executable) {
+        return getParameterTypes(new TypeMeta<>(clazz), executable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> getParameterTypes(TypeMeta<?> typeMeta, Executable executable) {
+        return getSignature(typeMeta, executable).getParameterTypes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> getParameterTypes(TypeProvider<?> typeProvider, Executable executable) {
+        return getParameterTypes(getTypeMeta(typeProvider), executable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T getReturnType(Class<?> clazz, Executable executable) {
+        return getReturnType(new TypeMeta<>(clazz), executable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T getReturnType(TypeMeta<?> typeMeta, Executable executable) {
+        return getSignature(typeMeta, executable).getReturnType();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T getReturnType(TypeProvider<?> typeProvider, Executable executable) {
+        return getReturnType(getTypeMeta(typeProvider), executable);
+    }
+
+    /**
+     * Returns cached signature of executable for received owner type or resolves it if it isn't cached yet.
+     *
+     * @param typeMeta   <code>TypeMeta</code> of class where executable is declared or its descendant.
+     * @param executable <code>Executable</code> to get signature for.
+     * @return <code>ExecutableSignature</code> with actual parameter, return and exception types.
+     */
+    public ExecutableSignature<T> getSignature(TypeMeta<?> typeMeta, Executable executable) {
+        if (ResolvingEvents.isExecutableResolvedEnabled()) {
+            return getSignatureWithEvent(typeMeta, executable);
+        }
+        return cache.computeIfAbsent(new MemberCacheKey(typeMeta, executable),
+                key -> delegate.resolveSignature(typeMeta, executable));
+    }
+
+    /**
+     * Returns snapshot of signature cache statistics.
+     */
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResolvedExecutables<T> resolveExecutables(Class<?> clazz) {
+        return resolveExecutables(new TypeMeta<>(clazz));
+    }
+
+    /**
+     * {@inheritDoc} Resolved model isn't stored at signatures cache as it's already cacheable per owner type.
+     */
+    @Override
+    public ResolvedExecutables<T> resolveExecutables(TypeMeta<?> typeMeta) {
+        return delegate.resolveExecutables(typeMeta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResolvedExecutables<T> resolveExecutables(TypeProvider<?> typeProvider) {
+        return resolveExecutables(getTypeMeta(typeProvider));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutableSignature<T> resolveSignature(Class<?> clazz, Executable executable) {
+        return resolveSignature(new TypeMeta<>(clazz), executable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutableSignature<T> resolveSignature(TypeMeta<?> typeMeta, Executable executable) {
+        return getSignature(typeMeta, executable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutableSignature<T> resolveSignature(TypeProvider<?> typeProvider, Executable executable) {
+        return resolveSignature(getTypeMeta(typeProvider), executable);
+    }
+
+    /**
+     * Returns <code>TypeMeta</code> of received type provider that should be used as cache key.
+     *
+     * @param typeProvider <code>TypeProvider</code> to get type meta from.
+     * @return <code>TypeMeta</code> of type provider.
+     */
+    protected TypeMeta<?> getTypeMeta(TypeProvider<?> typeProvider) {
+        return typeProvider.getTypeMeta();
+    }
+
+    private ExecutableSignature<T> getSignatureWithEvent(TypeMeta<?> typeMeta, Executable executable) {
+        long startNanos = System.nanoTime();
+        // resolving function is called on cache miss only, misses are reported by delegate
+        boolean[] isResolved = { false };
+        ExecutableSignature<T> signature = cache.computeIfAbsent(new MemberCacheKey(typeMeta, executable), key -> {
+            isResolved[0] = true;
+            return delegate.resolveSignature(typeMeta, executable);
+        });
+        if (!isResolved[0]) {
+            ResolvingEvents.executableResolved(typeMeta, executable, true, System.nanoTime() - startNanos);
+        }
+        return signature;
+    }
+}
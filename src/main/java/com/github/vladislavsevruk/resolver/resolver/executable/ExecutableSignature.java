@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Contains actual parameter, return and exception types of executable resolved for specific owner type. Lists are
+ * immutable so signature can be safely shared between callers.
+ *
+ * @param <T> type of mapped value for type variable.
+ */
+@Value
+public class ExecutableSignature<T> {
+
+    List<T> parameterTypes;
+    T returnType;
+    List<T> exceptionTypes;
+
+    public ExecutableSignature(List<T> parameterTypes, T returnType, List<T> exceptionTypes) {
+        this(parameterTypes, returnType, exceptionTypes, true);
+    }
+
+    private ExecutableSignature(List<T> parameterTypes, T returnType, List<T> exceptionTypes, boolean copyLists) {
+        this.parameterTypes = Collections
+                .unmodifiableList(copyLists ? new ArrayList<>(parameterTypes) : parameterTypes);
+        this.returnType = returnType;
+        this.exceptionTypes = Collections
+                .unmodifiableList(copyLists ? new ArrayList<>(exceptionTypes) : exceptionTypes);
+    }
+
+    /**
+     * Creates signature that wraps received lists without copying. Lists shouldn't be referenced anywhere else.
+     *
+     * @param parameterTypes <code>List</code> with actual parameter types.
+     * @param returnType     actual return type.
+     * @param exceptionTypes <code>List</code> with actual exception types.
+     * @param <T>            type of mapped value for type variable.
+     * @return <code>ExecutableSignature</code> backed by received lists.
+     */
+    static <T> ExecutableSignature<T> wrap(List<T> parameterTypes, T returnType, List<T> exceptionTypes) {
+        return new ExecutableSignature<>(parameterTypes, returnType, exceptionTypes, false);
+    }
+}
@@ -54,7 +54,7 @@ public final class ExecutableTypeMetaResolver extends BaseExecutableTypeResolver
      */
     @Override
     public List<TypeMeta<?>> getExceptionTypes(TypeProvider<?> typeProvider, Executable executable) {
-        return getExceptionTypes(typeProvider.getTypeMeta(context.getTypeVariableMapper()), executable);
+        return getExceptionTypes(typeProvider.getTypeMeta(context), executable);
     }
 
     /**
@@ -62,7 +62,7 @@ public final class ExecutableTypeMetaResolver extends BaseExecutableTypeResolver
      */
     @Override
     public List<TypeMeta<?>> getParameterTypes(TypeProvider<?> typeProvider, Executable executable) {
-        return getParameterTypes(typeProvider.getTypeMeta(context.getTypeVariableMapper()), executable);
+        return getParameterTypes(typeProvider.getTypeMeta(context), executable);
     }
 
     /**
@@ -70,6 +70,22 @@ public final class ExecutableTypeMetaResolver extends BaseExecutableTypeResolver
      */
     @Override
     public TypeMeta<?> getReturnType(TypeProvider<?> typeProvider, Executable executable) {
-        return getReturnType(typeProvider.getTypeMeta(context.getTypeVariableMapper()), executable);
+        return getReturnType(typeProvider.getTypeMeta(context), executable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResolvedExecutables<TypeMeta<?>> resolveExecutables(TypeProvider<?> typeProvider) {
+        return resolveExecutables(typeProvider.getTypeMeta(context));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutableSignature<TypeMeta<?>> resolveSignature(TypeProvider<?> typeProvider, Executable executable) {
+        return resolveSignature(typeProvider.getTypeMeta(context), executable);
     }
 }
@@ -116,4 +116,74 @@ public interface ExecutableTypeResolver<T> {
      * @return actual return type for received executable.
      */
     T getReturnType(TypeProvider<?> typeProvider, Executable executable);
+
+    /**
+     * Resolves actual parameter, return and exception types of executable at once.
+     *
+     * @param clazz      <code>Class</code> where executable was declared.
+     * @param executable <code>Executable</code> to resolve actual signature for.
+     * @return <code>ExecutableSignature</code> with actual parameter, return and exception types.
+     */
+    default ExecutableSignature<T> resolveSignature(Class<?> clazz, Executable executable) {
+        return resolveSignature(new TypeMeta<>(clazz), executable);
+    }
+
+    /**
+     * Resolves actual parameter, return and exception types of executable at once. Default implementation resolves
+     * them by separate calls of {@link #getParameterTypes(TypeMeta, Executable)},
+     * {@link #getReturnType(TypeMeta, Executable)} and {@link #getExceptionTypes(TypeMeta, Executable)}.
+     *
+     * @param typeMeta   <code>TypeMeta</code> with actual types for class where executable was declared.
+     * @param executable <code>Executable</code> to resolve actual signature for.
+     * @return <code>ExecutableSignature</code> with actual parameter, return and exception types.
+     */
+    default ExecutableSignature<T> resolveSignature(TypeMeta<?> typeMeta, Executable executable) {
+        return new ExecutableSignature<>(getParameterTypes(typeMeta, executable), getReturnType(typeMeta, executable),
+                getExceptionTypes(typeMeta, executable));
+    }
+
+    /**
+     * Resolves actual parameter, return and exception types of executable at once.
+     *
+     * @param typeProvider <code>TypeProvider</code> with class where executable was declared as type parameter.
+     * @param executable   <code>Executable</code> to resolve actual signature for.
+     * @return <code>ExecutableSignature</code> with actual parameter, return and exception types.
+     */
+    default ExecutableSignature<T> resolveSignature(TypeProvider<?> typeProvider, Executable executable) {
+        return resolveSignature(typeProvider.getTypeMeta(), executable);
+    }
+
+    /**
+     * Resolves actual signatures of all public constructors and methods of class.
+     *
+     * @param clazz <code>Class</code> to resolve constructors and methods for.
+     * @return <code>ResolvedExecutables</code> with actual signatures of constructors and methods.
+     */
+    default ResolvedExecutables<T> resolveExecutables(Class<?> clazz) {
+        return resolveExecutables(new TypeMeta<>(clazz));
+    }
+
+    /**
+     * Resolves actual signatures of all public constructors and methods of class. Default implementation resolves
+     * every constructor and method separately using {@link #resolveSignature(TypeMeta, Executable)}.
+     *
+     * @param typeMeta <code>TypeMeta</code> with actual types for class to resolve constructors and methods for.
+     * @return <code>ResolvedExecutables</code> with actual signatures of constructors and methods.
+     */
+    default ResolvedExecutables<T> resolveExecutables(TypeMeta<?> typeMeta) {
+        // Object isn't present at hierarchies and doesn't have type variables so its methods are resolved for itself
+        return ResolvedExecutables.collect(typeMeta, executable -> resolveSignature(
+                Object.class.equals(executable.getDeclaringClass()) ? TypeMeta.OBJECT_META : typeMeta, executable));
+    }
+
+    /**
+     * Resolves actual signatures of all public constructors and methods of class.
+     *
+     * @param typeProvider <code>TypeProvider</code> with class to resolve constructors and methods for as type
+     *                     parameter.
+     * @return <code>ResolvedExecutables</code> with actual signatures of constructors and methods.
+     */
+    default ResolvedExecutables<T> resolveExecutables(TypeProvider<?> typeProvider) {
+        return resolveExecutables(typeProvider.getTypeMeta());
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable model with actual signatures of all public constructors and methods of owner type. Bridge methods and
+ * methods overridden at owner type hierarchy are collapsed so model contains single method per name and actual
+ * parameter types. Constructors and methods are sorted by name and parameters number so they can be accessed by index.
+ * As model depends only on owner type meta it can be cached per owner type.
+ *
+ * @param <T> type of mapped value for type variable.
+ */
+@EqualsAndHashCode
+@ToString
+public final class ResolvedExecutables<T> {
+
+    private static final Comparator<Constructor<?>> CONSTRUCTOR_COMPARATOR = Comparator
+            .<Constructor<?>>comparingInt(Constructor::getParameterCount).thenComparing(Constructor::toString);
+    private static final Comparator<Method> METHOD_COMPARATOR = Comparator.comparing(Method::getName)
+            .thenComparingInt(Method::getParameterCount).thenComparing(Method::toString);
+    @Getter
+    private final List<Constructor<?>> constructors;
+    @Getter
+    private final List<Method> methods;
+    @Getter
+    private final TypeMeta<?> ownerTypeMeta;
+    private final Map<Executable, ExecutableSignature<T>> signatures;
+
+    ResolvedExecutables(TypeMeta<?> ownerTypeMeta, List<Constructor<?>> constructors, List<Method> methods,
+            Map<Executable, ExecutableSignature<T>> signatures) {
+        this.ownerTypeMeta = ownerTypeMeta;
+        this.constructors = Collections.unmodifiableList(new ArrayList<>(constructors));
+        this.methods = Collections.unmodifiableList(new ArrayList<>(methods));
+        this.signatures = Collections.unmodifiableMap(signatures);
+    }
+
+    /**
+     * Creates model with public constructors and methods of owner type and their signatures resolved by received
+     * function.
+     *
+     * @param ownerTypeMeta     <code>TypeMeta</code> with actual types for owner class.
+     * @param signatureResolver function that resolves actual signature of constructor or method for owner type.
+     * @param <T>               type of mapped value for type variable.
+     * @return <code>ResolvedExecutables</code> with actual signatures of constructors and methods.
+     */
+    static <T> ResolvedExecutables<T> collect(TypeMeta<?> ownerTypeMeta,
+            Function<Executable, ExecutableSignature<T>> signatureResolver) {
+        Map<Executable, ExecutableSignature<T>> signatures = new HashMap<>();
+        List<Constructor<?>> constructors = new ArrayList<>();
+        for (Constructor<?> constructor : ownerTypeMeta.getType().getConstructors()) {
+            constructors.add(constructor);
+            signatures.put(constructor, signatureResolver.apply(constructor));
+        }
+        // methods with the same name and actual parameter types are collapsed to the most specific one
+        Map<List<Object>, Method> methodsBySignature = new HashMap<>();
+        for (Method method : ownerTypeMeta.getType().getMethods()) {
+            if (method.isBridge()) {
+                continue;
+            }
+            ExecutableSignature<T> signature = signatureResolver.apply(method);
+            List<Object> key = Arrays.asList(method.getName(), signature.getParameterTypes());
+            Method presentMethod = methodsBySignature.get(key);
+            if (presentMethod == null || isOverriding(method, presentMethod)) {
+                methodsBySignature.put(key, method);
+                signatures.remove(presentMethod);
+                signatures.put(method, signature);
+            }
+        }
+        constructors.sort(CONSTRUCTOR_COMPARATOR);
+        List<Method> methods = new ArrayList<>(methodsBySignature.values());
+        methods.sort(METHOD_COMPARATOR);
+        return new ResolvedExecutables<>(ownerTypeMeta, constructors, methods, signatures);
+    }
+
+    /**
+     * Returns actual signature of constructor with received index at constructors list.
+     *
+     * @param index index of constructor at constructors list.
+     * @return <code>ExecutableSignature</code> with actual parameter, return and exception types.
+     */
+    public ExecutableSignature<T> getConstructorSignature(int index) {
+        return signatures.get(constructors.get(index));
+    }
+
+    /**
+     * Returns actual signature of method with received index at methods list.
+     *
+     * @param index index of method at methods list.
+     * @return <code>ExecutableSignature</code> with actual parameter, return and exception types.
+     */
+    public ExecutableSignature<T> getMethodSignature(int index) {
+        return signatures.get(methods.get(index));
+    }
+
+    /**
+     * Returns methods with received name in the same order as at methods list.
+     *
+     * @param methodName name of methods to get.
+     * @return <code>List</code> with methods with received name.
+     */
+    public List<Method> getMethods(String methodName) {
+        List<Method> namedMethods = new ArrayList<>();
+        for (Method method : methods) {
+            if (method.getName().equals(methodName)) {
+                namedMethods.add(method);
+            }
+        }
+        return namedMethods;
+    }
+
+    /**
+     * Returns actual signature of received constructor or method or <code>null</code> if it isn't present at this
+     * model, e.g. if it's bridge or overridden method.
+     *
+     * @param executable <code>Executable</code> to get signature for.
+     * @return <code>ExecutableSignature</code> with actual parameter, return and exception types.
+     */
+    public ExecutableSignature<T> getSignature(Executable executable) {
+        return signatures.get(executable);
+    }
+
+    private static boolean isOverriding(Method method, Method presentMethod) {
+        return !method.getDeclaringClass().equals(presentMethod.getDeclaringClass()) && presentMethod
+                .getDeclaringClass().isAssignableFrom(method.getDeclaringClass());
+    }
+}
@@ -24,14 +24,18 @@
 package com.github.vladislavsevruk.resolver.resolver.field;
 
 import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.exception.TypeResolvingException;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingEntryPoint;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingEvents;
+import com.github.vladislavsevruk.resolver.resolver.plan.ResolutionPlan;
 import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
 import lombok.extern.log4j.Log4j2;
 
-import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
 
 /**
  * Contains common logic for resolving actual types for generic generic fields.
@@ -43,6 +47,7 @@ import java.lang.reflect.Field;
 public class BaseFieldTypeResolver<T> implements FieldTypeResolver<T> {
 
     protected final ResolvingContext<T> context;
+    private final TypeVariableMap<T> emptyTypeVariableMap = new TypeVariableMap<>();
 
     public BaseFieldTypeResolver(ResolvingContext<T> context) {
         this.context = context;
@@ -61,12 +66,16 @@ public class BaseFieldTypeResolver<T> implements FieldTypeResolver<T> {
      */
     @Override
     public T resolveField(TypeMeta<?> typeMeta, Field field) {
-        log.debug(() -> String.format("Getting parameterized type for field '%s'.", field.getName()));
-        MappedVariableHierarchy<T> hierarchy = context.getMappedVariableHierarchyStorage().get(typeMeta);
-        TypeVariableMap<T> typeVariableMap = hierarchy.getTypeVariableMap(field.getDeclaringClass());
-        AnnotatedType annotatedType = field.getAnnotatedType();
-        return context.getTypeResolverPicker().pickAnnotatedTypeResolver(annotatedType)
-                .resolve(typeVariableMap, annotatedType);
+        context.getResolvingMetrics().recordResolve(ResolvingEntryPoint.FIELD_TYPE);
+        verifyFieldOwner(typeMeta, field);
+        if (ResolvingEvents.isFieldResolvedEnabled()) {
+            return resolveFieldWithEvent(typeMeta, field);
+        }
+        ResolutionPlan<T> plan = context.getResolutionPlanStorage().getFieldPlan(field);
+        if (plan.isClosed()) {
+            return resolveClosedField(plan, field);
+        }
+        return context.getFieldTypeCache().computeIfAbsent(typeMeta, field, this::doResolveField);
     }
 
     /**
@@ -76,4 +85,99 @@ public class BaseFieldTypeResolver<T> implements FieldTypeResolver<T> {
     public T resolveField(TypeProvider<?> typeProvider, Field field) {
         return resolveField(typeProvider.getTypeMeta(), field);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResolvedFields<T> resolveFields(Class<?> clazz) {
+        return resolveFields(new TypeMeta<>(clazz));
+    }
+
+    /**
+     * {@inheritDoc} Type variable hierarchy is built only once for all fields.
+     */
+    @Override
+    public ResolvedFields<T> resolveFields(TypeMeta<?> typeMeta) {
+        context.getResolvingMetrics().recordResolve(ResolvingEntryPoint.FIELDS);
+        log.debug(() -> String.format("Resolving fields for '%s'.", typeMeta));
+        LinkedHashMap<Field, T> fieldTypes = new LinkedHashMap<>();
+        // hierarchy is built only once and only if there is at least one field depending on type variables
+        MappedVariableHierarchy<T> hierarchy = null;
+        for (Class<?> clazz = typeMeta.getType(); clazz != null && clazz != Object.class;
+                clazz = clazz.getSuperclass()) {
+            TypeVariableMap<T> typeVariableMap = null;
+            for (Field field : clazz.getDeclaredFields()) {
+                if (field.isSynthetic()) {
+                    continue;
+                }
+                ResolutionPlan<T> plan = context.getResolutionPlanStorage().getFieldPlan(field);
+                if (plan.isClosed()) {
+                    fieldTypes.put(field, plan.resolve(emptyTypeVariableMap));
+                    continue;
+                }
+                if (typeVariableMap == null) {
+                    if (hierarchy == null) {
+                        hierarchy = context.getMappedVariableHierarchyStorage().get(typeMeta);
+                    }
+                    typeVariableMap = hierarchy.getTypeVariableMap(clazz);
+                }
+                fieldTypes.put(field, plan.resolve(typeVariableMap));
+            }
+        }
+        return new ResolvedFields<>(typeMeta, fieldTypes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResolvedFields<T> resolveFields(TypeProvider<?> typeProvider) {
+        return resolveFields(typeProvider.getTypeMeta());
+    }
+
+    private T doResolveField(TypeMeta<?> typeMeta, Field field) {
+        log.debug(() -> String.format("Getting parameterized type for field '%s'.", field.getName()));
+        MappedVariableHierarchy<T> hierarchy = context.getMappedVariableHierarchyStorage().get(typeMeta);
+        TypeVariableMap<T> typeVariableMap = hierarchy.getTypeVariableMap(field.getDeclaringClass());
+        return resolveAnnotatedType(typeVariableMap, field);
+    }
+
+    private T resolveAnnotatedType(TypeVariableMap<T> typeVariableMap, Field field) {
+        return context.getResolutionPlanStorage().getFieldPlan(field).resolve(typeVariableMap);
+    }
+
+    private T resolveClosedField(ResolutionPlan<T> plan, Field field) {
+        // closed type doesn't depend on owner type so neither hierarchy nor owner specific cache entry is required
+        log.debug(() -> String.format("Getting closed type for field '%s'.", field.getName()));
+        return plan.resolve(emptyTypeVariableMap);
+    }
+
+    private T resolveFieldWithEvent(TypeMeta<?> typeMeta, Field field) {
+        long startNanos = System.nanoTime();
+        ResolutionPlan<T> plan = context.getResolutionPlanStorage().getFieldPlan(field);
+        if (plan.isClosed()) {
+            T fieldType = resolveClosedField(plan, field);
+            ResolvingEvents.fieldResolved(typeMeta, field, false, System.nanoTime() - startNanos);
+            return fieldType;
+        }
+        // resolving function is called on cache miss only
+        boolean[] isResolved = { false };
+        T fieldType = context.getFieldTypeCache().computeIfAbsent(typeMeta, field, (missedTypeMeta, missedField) -> {
+            isResolved[0] = true;
+            return doResolveField(missedTypeMeta, missedField);
+        });
+        ResolvingEvents.fieldResolved(typeMeta, field, !isResolved[0], System.nanoTime() - startNanos);
+        return fieldType;
+    }
+
+    private void verifyFieldOwner(TypeMeta<?> typeMeta, Field field) {
+        // checked before closed type shortcut that skips hierarchy so foreign fields are rejected on every path
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (!declaringClass.isAssignableFrom(typeMeta.getType())) {
+            String message = String.format("Class '%s' isn't present at this hierarchy.", declaringClass.getName());
+            log.error(message);
+            throw new TypeResolvingException(message);
+        }
+    }
 }
@@ -51,6 +51,14 @@ public final class FieldTypeMetaResolver extends BaseFieldTypeResolver<TypeMeta<
      */
     @Override
     public TypeMeta<?> resolveField(TypeProvider<?> typeProvider, Field field) {
-        return resolveField(typeProvider.getTypeMeta(context.getTypeVariableMapper()), field);
+        return resolveField(typeProvider.getTypeMeta(context), field);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResolvedFields<TypeMeta<?>> resolveFields(TypeProvider<?> typeProvider) {
+        return resolveFields(typeProvider.getTypeMeta(context));
     }
 }
@@ -27,6 +27,7 @@ import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 
 import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
 
 /**
  * Resolves actual types for generic fields.
@@ -61,4 +62,44 @@ public interface FieldTypeResolver<T> {
      * @return actual field type.
      */
     T resolveField(TypeProvider<?> typeProvider, Field field);
+
+    /**
+     * Resolves actual types of all fields declared at class and its superclasses.
+     *
+     * @param clazz <code>Class</code> to resolve fields for.
+     * @return <code>ResolvedFields</code> with actual types of fields.
+     */
+    default ResolvedFields<T> resolveFields(Class<?> clazz) {
+        return resolveFields(new TypeMeta<>(clazz));
+    }
+
+    /**
+     * Resolves actual types of all fields declared at class and its superclasses. Default implementation resolves
+     * every field separately using {@link #resolveField(TypeMeta, Field)}.
+     *
+     * @param typeMeta <code>TypeMeta</code> with actual types for class to resolve fields for.
+     * @return <code>ResolvedFields</code> with actual types of fields.
+     */
+    default ResolvedFields<T> resolveFields(TypeMeta<?> typeMeta) {
+        LinkedHashMap<Field, T> fieldTypes = new LinkedHashMap<>();
+        for (Class<?> clazz = typeMeta.getType(); clazz != null && clazz != Object.class;
+                clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!field.isSynthetic()) {
+                    fieldTypes.put(field, resolveField(typeMeta, field));
+                }
+            }
+        }
+        return new ResolvedFields<>(typeMeta, fieldTypes);
+    }
+
+    /**
+     * Resolves actual types of all fields declared at class and its superclasses.
+     *
+     * @param typeProvider <code>TypeProvider</code> with class to resolve fields for as type parameter.
+     * @return <code>ResolvedFields</code> with actual types of fields.
+     */
+    default ResolvedFields<T> resolveFields(TypeProvider<?> typeProvider) {
+        return resolveFields(typeProvider.getTypeMeta());
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable model with actual types of all fields declared at owner class and its superclasses. Fields are ordered from
+ * owner class to its most distant superclass so field shadowed by descendant class field with the same name goes
+ * after it. As model depends only on owner type meta it can be cached per owner type.
+ *
+ * @param <T> type of mapped value for type variable.
+ */
+@EqualsAndHashCode
+@ToString
+public final class ResolvedFields<T> {
+
+    private final Map<Field, T> fieldTypes;
+    @Getter
+    private final List<Field> fields;
+    @Getter
+    private final TypeMeta<?> ownerTypeMeta;
+
+    ResolvedFields(TypeMeta<?> ownerTypeMeta, LinkedHashMap<Field, T> fieldTypes) {
+        this.ownerTypeMeta = ownerTypeMeta;
+        this.fieldTypes = Collections.unmodifiableMap(fieldTypes);
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fieldTypes.keySet()));
+    }
+
+    /**
+     * Returns actual type of received field or <code>null</code> if field isn't declared at owner class or its
+     * superclasses.
+     *
+     * @param field <code>Field</code> to get actual type for.
+     * @return actual type of field.
+     */
+    public T getFieldType(Field field) {
+        return fieldTypes.get(field);
+    }
+
+    /**
+     * Returns actual type of field with received name that is declared at the closest class of owner type hierarchy or
+     * <code>null</code> if there is no such field.
+     *
+     * @param fieldName name of field to get actual type for.
+     * @return actual type of field.
+     */
+    public T getFieldType(String fieldName) {
+        for (Field field : fields) {
+            if (field.getName().equals(fieldName)) {
+                return fieldTypes.get(field);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns unmodifiable map with actual types of fields in the same order as fields list.
+     */
+    public Map<Field, T> getFieldTypes() {
+        return fieldTypes;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field.cache;
+
+import com.github.vladislavsevruk.resolver.cache.BoundedCache;
+import com.github.vladislavsevruk.resolver.cache.CacheStatistics;
+import com.github.vladislavsevruk.resolver.cache.MemberCacheKey;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.ResolvingModuleType;
+import com.github.vladislavsevruk.resolver.context.StatefulResolvingModule;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.lang.reflect.Field;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Base implementation of <code>FieldTypeCache</code> with bounded number of cached field types. Cached entries
+ * strongly reference owner types and fields so classes they refer to can't be unloaded until entries are evicted or
+ * cache is cleared.
+ *
+ * @param <T> type of mapped value for type variable.
+ * @see FieldTypeCache
+ */
+public class BaseFieldTypeCache<T> implements FieldTypeCache<T>, StatefulResolvingModule<T, FieldTypeCache<T>> {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 8192;
+    private final BoundedCache<MemberCacheKey, T> cache;
+    private final ResolvingContext<T> resolvingContext;
+
+    public BaseFieldTypeCache(ResolvingContext<T> resolvingContext) {
+        this(resolvingContext, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public BaseFieldTypeCache(ResolvingContext<T> resolvingContext, int maximumSize) {
+        this.resolvingContext = resolvingContext;
+        this.cache = new BoundedCache<>(maximumSize);
+    }
+
+    /**
+     * Creates new instance bound to received context that shares cached field types with received cache.
+     *
+     * @param resolvingContext <code>ResolvingContext</code> for new instance.
+     * @param fieldTypeCache   cache to share cached field types with.
+     */
+    protected BaseFieldTypeCache(ResolvingContext<T> resolvingContext, BaseFieldTypeCache<T> fieldTypeCache) {
+        this.resolvingContext = resolvingContext;
+        this.cache = fieldTypeCache.cache;
+    }
+
+    /**
+     * {@inheritDoc} Subclasses that don't override this method are recreated as carried over instance would lose
+     * their type.
+     */
+    @Override
+    public FieldTypeCache<T> carryOver(ResolvingContext<T> resolvingContext) {
+        if (getClass() != BaseFieldTypeCache.class) {
+            return null;
+        }
+        return new BaseFieldTypeCache<>(resolvingContext, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T computeIfAbsent(TypeMeta<?> typeMeta, Field field,
+            BiFunction<TypeMeta<?>, Field, T> resolvingFunction) {
+        return cache.computeIfAbsent(new MemberCacheKey(typeMeta, field),
+                key -> resolvingFunction.apply(typeMeta, field));
+    }
+
+    /**
+     * {@inheritDoc} Cached field types are results of type variables mapping and resolving so they are kept only while
+     * none of modules that take part in it is replaced.
+     */
+    @Override
+    public Set<ResolvingModuleType> getStateDependencies() {
+        return EnumSet.of(ResolvingModuleType.MAPPED_VARIABLE_HIERARCHY_STORAGE,
+                ResolvingModuleType.TYPE_RESOLVER_PICKER, ResolvingModuleType.TYPE_RESOLVER_STORAGE,
+                ResolvingModuleType.TYPE_VARIABLE_MAPPER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    protected ResolvingContext<T> context() {
+        return resolvingContext;
+    }
+}
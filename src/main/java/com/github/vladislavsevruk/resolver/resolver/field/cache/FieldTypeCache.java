@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field.cache;
+
+import com.github.vladislavsevruk.resolver.cache.CacheStatistics;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.lang.reflect.Field;
+import java.util.function.BiFunction;
+
+/**
+ * Caches actual field types resolved for owner types.
+ *
+ * @param <T> type of mapped value for type variable.
+ */
+public interface FieldTypeCache<T> {
+
+    /**
+     * Removes all cached field types.
+     */
+    void clear();
+
+    /**
+     * Returns cached actual type of field for received owner type or resolves it using received function.
+     *
+     * @param typeMeta          <code>TypeMeta</code> of class where field is declared or its descendant.
+     * @param field             <code>Field</code> to get actual type for.
+     * @param resolvingFunction function for actual field type resolving if it isn't cached yet.
+     * @return actual type of field.
+     */
+    T computeIfAbsent(TypeMeta<?> typeMeta, Field field, BiFunction<TypeMeta<?>, Field, T> resolvingFunction);
+
+    /**
+     * Returns snapshot of cache statistics.
+     */
+    CacheStatistics getStatistics();
+}
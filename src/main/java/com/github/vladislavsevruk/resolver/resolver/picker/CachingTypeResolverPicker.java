@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.picker;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.resolver.annotated.AnnotatedTypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.simple.TypeResolver;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Type resolver picker that caches picked resolver per implementation class of type or annotated type so following
+ * picks for types of the same implementation class cost single map lookup. Resolvers from
+ * <code>TypeResolverStorage</code> are still used for picking but they should decide whether they can resolve type
+ * only by its implementation class.
+ *
+ * @param <T> type of mapped value for type variable.
+ * @see TypeResolverPicker
+ */
+public class CachingTypeResolverPicker<T> extends BaseTypeResolverPicker<T> {
+
+    // not a ClassValue as cached resolvers reference picker and would be retained by type classes after refresh
+    private final Map<Class<?>, AnnotatedTypeResolver<T>> annotatedTypeResolvers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, TypeResolver<T>> typeResolvers = new ConcurrentHashMap<>();
+
+    public CachingTypeResolverPicker(ResolvingContext<T> resolvingContext) {
+        super(resolvingContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AnnotatedTypeResolver<T> pickAnnotatedTypeResolver(AnnotatedType annotatedType) {
+        AnnotatedTypeResolver<T> annotatedTypeResolver = annotatedTypeResolvers.get(annotatedType.getClass());
+        if (annotatedTypeResolver == null) {
+            annotatedTypeResolver = super.pickAnnotatedTypeResolver(annotatedType);
+            annotatedTypeResolvers.putIfAbsent(annotatedType.getClass(), annotatedTypeResolver);
+        }
+        return annotatedTypeResolver;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypeResolver<T> pickTypeResolver(Type type) {
+        TypeResolver<T> typeResolver = typeResolvers.get(type.getClass());
+        if (typeResolver == null) {
+            typeResolver = super.pickTypeResolver(type);
+            typeResolvers.putIfAbsent(type.getClass(), typeResolver);
+        }
+        return typeResolver;
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.plan;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.ResolvingModuleType;
+import com.github.vladislavsevruk.resolver.context.StatefulResolvingModule;
+import com.github.vladislavsevruk.resolver.resolver.annotated.AnnotatedTypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.simple.TypeResolver;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import com.github.vladislavsevruk.resolver.util.GenericTypeUtil;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Contains common logic for compiling and storing resolution plans. Parts of generic declaration without type
+ * variables are resolved once at compilation and stored as constants, type variables are turned into slots that are
+ * filled from <code>TypeVariableMap</code>. Types that are resolved by resolvers unknown to this storage are delegated
+ * to these resolvers on each plan execution so custom resolving logic is preserved. Plans are kept at
+ * <code>ClassValue</code> of declaring class of field or executable so they don't prevent class loaders from being
+ * garbage collected.
+ *
+ * @param <T> type of mapped value for type variable.
+ * @see ResolutionPlanStorage
+ */
+@Log4j2
+public abstract class AbstractResolutionPlanStorage<T>
+        implements ResolutionPlanStorage<T>, StatefulResolvingModule<T, ResolutionPlanStorage<T>> {
+
+    private final TypeVariableMap<T> emptyTypeVariableMap = new TypeVariableMap<>();
+    private final ClassValue<Map<Executable, ExecutableResolutionPlan<T>>> executablePlans;
+    private final ClassValue<Map<Field, ResolutionPlan<T>>> fieldPlans;
+    private final ResolvingContext<T> resolvingContext;
+    private final ResolvingMode resolvingMode;
+
+    protected AbstractResolutionPlanStorage(ResolvingContext<T> resolvingContext) {
+        this(resolvingContext, ResolvingMode.ANNOTATED_TYPE);
+    }
+
+    /**
+     * Creates storage that compiles plans using reflection API matching received mode.
+     *
+     * @param resolvingContext <code>ResolvingContext</code> to use for type resolving.
+     * @param resolvingMode    <code>ResolvingMode</code> that defines whether plans are compiled from annotated or
+     *                         generic types.
+     * @see ResolvingMode
+     */
+    protected AbstractResolutionPlanStorage(ResolvingContext<T> resolvingContext, ResolvingMode resolvingMode) {
+        this.resolvingContext = resolvingContext;
+        this.resolvingMode = resolvingMode;
+        this.executablePlans = createPlansStorage();
+        this.fieldPlans = createPlansStorage();
+    }
+
+    /**
+     * Creates new instance bound to received context that shares compiled plans with received storage.
+     *
+     * @param resolvingContext      <code>ResolvingContext</code> for new instance.
+     * @param resolutionPlanStorage storage to share compiled plans with.
+     */
+    protected AbstractResolutionPlanStorage(ResolvingContext<T> resolvingContext,
+            AbstractResolutionPlanStorage<T> resolutionPlanStorage) {
+        this.resolvingContext = resolvingContext;
+        this.resolvingMode = resolutionPlanStorage.resolvingMode;
+        this.executablePlans = resolutionPlanStorage.executablePlans;
+        this.fieldPlans = resolutionPlanStorage.fieldPlans;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutableResolutionPlan<T> getExecutablePlan(Executable executable) {
+        Map<Executable, ExecutableResolutionPlan<T>> classPlans = executablePlans.get(executable.getDeclaringClass());
+        ExecutableResolutionPlan<T> plan = classPlans.get(executable);
+        if (plan != null) {
+            return plan;
+        }
+        return classPlans.computeIfAbsent(executable, this::compileExecutable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResolutionPlan<T> getFieldPlan(Field field) {
+        Map<Field, ResolutionPlan<T>> classPlans = fieldPlans.get(field.getDeclaringClass());
+        ResolutionPlan<T> plan = classPlans.get(field);
+        if (plan != null) {
+            return plan;
+        }
+        return classPlans.computeIfAbsent(field, this::compileField);
+    }
+
+    /**
+     * Returns <code>ResolvingMode</code> that is used for plans compilation.
+     */
+    public ResolvingMode getResolvingMode() {
+        return resolvingMode;
+    }
+
+    /**
+     * {@inheritDoc} Plans are compiled using resolvers provided by <code>TypeResolverPicker</code> so they are kept
+     * while neither picker nor resolvers storage is replaced.
+     */
+    @Override
+    public Set<ResolvingModuleType> getStateDependencies() {
+        return EnumSet.of(ResolvingModuleType.TYPE_RESOLVER_PICKER, ResolvingModuleType.TYPE_RESOLVER_STORAGE);
+    }
+
+    protected ResolvingContext<T> context() {
+        return resolvingContext;
+    }
+
+    protected abstract T[] createArgumentsArray(int length);
+
+    protected abstract T createResolvedArray(T resolvedComponentType);
+
+    protected abstract T createResolvedItemLowerBound(T resolvedType);
+
+    protected abstract T createResolvedItemUpperBound(T resolvedType);
+
+    protected abstract T createResolvedParameterizedType(Class<?> rawType, T[] resolvedArgumentTypes);
+
+    /**
+     * Checks if logic of received annotated type resolver is known and can be replaced by compiled plan.
+     *
+     * @param annotatedTypeResolver <code>AnnotatedTypeResolver</code> to check.
+     * @return <code>true</code> if received resolver only resolves underlying <code>Type</code> of annotated type,
+     * <code>false</code> otherwise.
+     */
+    protected abstract boolean isCompilable(AnnotatedTypeResolver<T> annotatedTypeResolver);
+
+    /**
+     * Checks if logic of received type resolver is known and can be replaced by compiled plan.
+     *
+     * @param typeResolver <code>TypeResolver</code> to check.
+     * @return <code>true</code> if received resolver logic matches compiled plan logic, <code>false</code> otherwise.
+     */
+    protected abstract boolean isCompilable(TypeResolver<T> typeResolver);
+
+    private ResolutionPlan<T> compile(AnnotatedType annotatedType) {
+        AnnotatedTypeResolver<T> annotatedTypeResolver = context().getTypeResolverPicker()
+                .pickAnnotatedTypeResolver(annotatedType);
+        if (!isCompilable(annotatedTypeResolver)) {
+            return typeVariableMap -> annotatedTypeResolver.resolve(typeVariableMap, annotatedType);
+        }
+        return compile(annotatedType.getType());
+    }
+
+    private ResolutionPlan<T> compile(Type type) {
+        TypeResolver<T> typeResolver = context().getTypeResolverPicker().pickTypeResolver(type);
+        if (!isCompilable(typeResolver)) {
+            return typeVariableMap -> typeResolver.resolve(typeVariableMap, type);
+        }
+        if (GenericTypeUtil.isClosedType(type)) {
+            T resolvedType = typeResolver.resolve(emptyTypeVariableMap, type);
+            return typeVariableMap -> resolvedType;
+        }
+        if (type instanceof TypeVariable) {
+            return compileTypeVariable((TypeVariable<?>) type, typeResolver);
+        }
+        if (type instanceof ParameterizedType) {
+            return compileParameterizedType((ParameterizedType) type);
+        }
+        if (type instanceof GenericArrayType) {
+            ResolutionPlan<T> componentPlan = compile(((GenericArrayType) type).getGenericComponentType());
+            return typeVariableMap -> createResolvedArray(componentPlan.resolve(typeVariableMap));
+        }
+        if (type instanceof WildcardType) {
+            return compileWildcardType((WildcardType) type);
+        }
+        return typeVariableMap -> typeResolver.resolve(typeVariableMap, type);
+    }
+
+    private List<ResolutionPlan<T>> compile(AnnotatedType[] annotatedTypes) {
+        List<ResolutionPlan<T>> plans = new ArrayList<>(annotatedTypes.length);
+        for (AnnotatedType annotatedType : annotatedTypes) {
+            plans.add(compile(annotatedType));
+        }
+        return plans;
+    }
+
+    private List<ResolutionPlan<T>> compile(Type[] types) {
+        List<ResolutionPlan<T>> plans = new ArrayList<>(types.length);
+        for (Type type : types) {
+            plans.add(compile(type));
+        }
+        return plans;
+    }
+
+    private ExecutableResolutionPlan<T> compileExecutable(Executable executable) {
+        log.debug(() -> String.format("Compiling resolution plan for executable '%s'.", executable.getName()));
+        if (ResolvingMode.GENERIC_TYPE.equals(resolvingMode)) {
+            Type[] genericParameterTypes = executable.getGenericParameterTypes();
+            // generic signature of inner class and enum constructors skips synthetic parameters so annotated types are
+            // used for them
+            if (genericParameterTypes.length == executable.getParameterCount()) {
+                return new ExecutableResolutionPlan<>(compile(genericParameterTypes),
+                        compile(getGenericReturnType(executable)), compile(executable.getGenericExceptionTypes()));
+            }
+        }
+        return new ExecutableResolutionPlan<>(compile(executable.getAnnotatedParameterTypes()),
+                compile(executable.getAnnotatedReturnType()), compile(executable.getAnnotatedExceptionTypes()));
+    }
+
+    private ResolutionPlan<T> compileField(Field field) {
+        log.debug(() -> String.format("Compiling resolution plan for field '%s'.", field.getName()));
+        ResolutionPlan<T> plan = ResolvingMode.GENERIC_TYPE.equals(resolvingMode) ? compile(field.getGenericType())
+                : compile(field.getAnnotatedType());
+        // closedness is checked once here so field resolvers don't traverse generic type on every call
+        return GenericTypeUtil.isClosedType(field.getGenericType()) ? new ClosedResolutionPlan<>(plan) : plan;
+    }
+
+    private ResolutionPlan<T> compileParameterizedType(ParameterizedType parameterizedType) {
+        Type[] actualTypes = parameterizedType.getActualTypeArguments();
+        List<ResolutionPlan<T>> argumentPlans = new ArrayList<>(actualTypes.length);
+        for (Type actualType : actualTypes) {
+            argumentPlans.add(compile(actualType));
+        }
+        Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+        return typeVariableMap -> {
+            T[] resolvedArgumentTypes = createArgumentsArray(argumentPlans.size());
+            for (int i = 0; i < resolvedArgumentTypes.length; ++i) {
+                resolvedArgumentTypes[i] = argumentPlans.get(i).resolve(typeVariableMap);
+            }
+            return createResolvedParameterizedType(rawType, resolvedArgumentTypes);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResolutionPlan<T> compileTypeVariable(TypeVariable<?> typeVariable, TypeResolver<T> typeResolver) {
+        TypeVariable<? extends Class<?>> classTypeVariable = (TypeVariable<? extends Class<?>>) typeVariable;
+        return typeVariableMap -> {
+            T actualType = typeVariableMap.getActualType(classTypeVariable);
+            // fallback to resolver for default value of not mapped type variables
+            return actualType != null ? actualType : typeResolver.resolve(typeVariableMap, typeVariable);
+        };
+    }
+
+    private <K, V> ClassValue<Map<K, V>> createPlansStorage() {
+        return new ClassValue<Map<K, V>>() {
+            @Override
+            protected Map<K, V> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    private Type getGenericReturnType(Executable executable) {
+        if (executable instanceof Method) {
+            return ((Method) executable).getGenericReturnType();
+        }
+        // matches underlying type of constructor annotated return type
+        return executable.getDeclaringClass();
+    }
+
+    private ResolutionPlan<T> compileWildcardType(WildcardType wildcardType) {
+        Type[] lowerBounds = wildcardType.getLowerBounds();
+        if (lowerBounds.length != 0) {
+            ResolutionPlan<T> lowerBoundPlan = compile(lowerBounds[0]);
+            return typeVariableMap -> createResolvedItemLowerBound(lowerBoundPlan.resolve(typeVariableMap));
+        }
+        ResolutionPlan<T> upperBoundPlan = compile(wildcardType.getUpperBounds()[0]);
+        return typeVariableMap -> createResolvedItemUpperBound(upperBoundPlan.resolve(typeVariableMap));
+    }
+
+    private static final class ClosedResolutionPlan<T> implements ResolutionPlan<T> {
+
+        private final ResolutionPlan<T> plan;
+
+        private ClosedResolutionPlan(ResolutionPlan<T> plan) {
+            this.plan = plan;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return true;
+        }
+
+        @Override
+        public T resolve(TypeVariableMap<T> typeVariableMap) {
+            return plan.resolve(typeVariableMap);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.plan;
+
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Contains precompiled resolution plans for parameter, return and exception types of executable.
+ *
+ * @param <T> type of mapped value for type variable.
+ * @see ResolutionPlan
+ */
+public class ExecutableResolutionPlan<T> {
+
+    private final List<ResolutionPlan<T>> exceptionTypePlans;
+    private final List<ResolutionPlan<T>> parameterTypePlans;
+    private final ResolutionPlan<T> returnTypePlan;
+
+    public ExecutableResolutionPlan(List<ResolutionPlan<T>> parameterTypePlans, ResolutionPlan<T> returnTypePlan,
+            List<ResolutionPlan<T>> exceptionTypePlans) {
+        this.parameterTypePlans = Collections.unmodifiableList(new ArrayList<>(parameterTypePlans));
+        this.returnTypePlan = returnTypePlan;
+        this.exceptionTypePlans = Collections.unmodifiableList(new ArrayList<>(exceptionTypePlans));
+    }
+
+    /**
+     * Resolves actual exception types of executable using received type variable mappings.
+     *
+     * @param typeVariableMap <code>TypeVariableMap</code> with actual types of declaring class type variables.
+     * @return <code>List</code> with resolved actual exception types.
+     */
+    public List<T> resolveExceptionTypes(TypeVariableMap<T> typeVariableMap) {
+        return resolve(exceptionTypePlans, typeVariableMap);
+    }
+
+    /**
+     * Resolves actual parameter types of executable using received type variable mappings.
+     *
+     * @param typeVariableMap <code>TypeVariableMap</code> with actual types of declaring class type variables.
+     * @return <code>List</code> with resolved actual parameter types.
+     */
+    public List<T> resolveParameterTypes(TypeVariableMap<T> typeVariableMap) {
+        return resolve(parameterTypePlans, typeVariableMap);
+    }
+
+    /**
+     * Resolves actual return type of executable using received type variable mappings.
+     *
+     * @param typeVariableMap <code>TypeVariableMap</code> with actual types of declaring class type variables.
+     * @return resolved actual return type.
+     */
+    public T resolveReturnType(TypeVariableMap<T> typeVariableMap) {
+        return returnTypePlan.resolve(typeVariableMap);
+    }
+
+    private List<T> resolve(List<ResolutionPlan<T>> plans, TypeVariableMap<T> typeVariableMap) {
+        List<T> resolvedTypes = new ArrayList<>(plans.size());
+        for (ResolutionPlan<T> plan : plans) {
+            resolvedTypes.add(plan.resolve(typeVariableMap));
+        }
+        return resolvedTypes;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.plan;
+
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+
+/**
+ * Immutable precompiled form of generic type declaration. Only type variable positions are substituted from received
+ * <code>TypeVariableMap</code> so resolving doesn't require traversal of generic type declaration.
+ *
+ * @param <T> type of mapped value for type variable.
+ */
+@FunctionalInterface
+public interface ResolutionPlan<T> {
+
+    /**
+     * Checks if resolved type doesn't depend on type variable mappings so plan can be resolved without type variable
+     * hierarchy of owner type.
+     *
+     * @return <code>true</code> if generic declaration doesn't contain type variables, <code>false</code> otherwise.
+     */
+    default boolean isClosed() {
+        return false;
+    }
+
+    /**
+     * Resolves actual type using received type variable mappings.
+     *
+     * @param typeVariableMap <code>TypeVariableMap</code> with actual types of declaring class type variables.
+     * @return resolved actual type.
+     */
+    T resolve(TypeVariableMap<T> typeVariableMap);
+}
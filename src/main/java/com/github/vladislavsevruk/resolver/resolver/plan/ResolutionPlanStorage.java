@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.plan;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+
+/**
+ * Compiles and stores resolution plans for fields and executables.
+ *
+ * @param <T> type of mapped value for type variable.
+ * @see ResolutionPlan
+ */
+public interface ResolutionPlanStorage<T> {
+
+    /**
+     * Returns resolution plan for parameter, return and exception types of received executable.
+     *
+     * @param executable <code>Executable</code> to get resolution plan for.
+     * @return <code>ExecutableResolutionPlan</code> for received executable.
+     */
+    ExecutableResolutionPlan<T> getExecutablePlan(Executable executable);
+
+    /**
+     * Returns resolution plan for type of received field.
+     *
+     * @param field <code>Field</code> to get resolution plan for.
+     * @return <code>ResolutionPlan</code> for received field.
+     */
+    ResolutionPlan<T> getFieldPlan(Field field);
+}
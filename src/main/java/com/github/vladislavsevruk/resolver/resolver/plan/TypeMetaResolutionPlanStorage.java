@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.plan;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.resolver.annotated.AnnotatedTypeBaseResolver;
+import com.github.vladislavsevruk.resolver.resolver.annotated.AnnotatedTypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.annotated.array.AnnotatedArrayTypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.annotated.parameterized.AnnotatedParameterizedTypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.simple.TypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.simple.clazz.ClassTypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.simple.generic.GenericArrayTypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.simple.parameterized.ParameterizedTypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.simple.variable.TypeVariableResolver;
+import com.github.vladislavsevruk.resolver.resolver.simple.wildcard.WildcardTypeResolver;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeMetaPool;
+import com.github.vladislavsevruk.resolver.type.WildcardBound;
+
+import java.lang.reflect.Array;
+
+/**
+ * Implementation of <code>ResolutionPlanStorage</code> for TypeMeta.
+ *
+ * @see ResolutionPlanStorage
+ * @see TypeMeta
+ */
+public final class TypeMetaResolutionPlanStorage extends AbstractResolutionPlanStorage<TypeMeta<?>> {
+
+    public TypeMetaResolutionPlanStorage() {
+        this(TypeMetaResolvingContextManager.getContext());
+    }
+
+    public TypeMetaResolutionPlanStorage(ResolvingContext<TypeMeta<?>> resolvingContext) {
+        super(resolvingContext);
+    }
+
+    public TypeMetaResolutionPlanStorage(ResolvingContext<TypeMeta<?>> resolvingContext, ResolvingMode resolvingMode) {
+        super(resolvingContext, resolvingMode);
+    }
+
+    private TypeMetaResolutionPlanStorage(ResolvingContext<TypeMeta<?>> resolvingContext,
+            TypeMetaResolutionPlanStorage resolutionPlanStorage) {
+        super(resolvingContext, resolutionPlanStorage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResolutionPlanStorage<TypeMeta<?>> carryOver(ResolvingContext<TypeMeta<?>> resolvingContext) {
+        return new TypeMetaResolutionPlanStorage(resolvingContext, this);
+    }
+
+    @Override
+    protected TypeMeta<?>[] createArgumentsArray(int length) {
+        return new TypeMeta[length];
+    }
+
+    @Override
+    protected TypeMeta<?> createResolvedArray(TypeMeta<?> resolvedComponentType) {
+        Class<?> arrayType = Array.newInstance(resolvedComponentType.getType(), 0).getClass();
+        return TypeMetaPool.intern(new TypeMeta<>(arrayType, new TypeMeta<?>[]{ resolvedComponentType }));
+    }
+
+    @Override
+    protected TypeMeta<?> createResolvedItemLowerBound(TypeMeta<?> resolvedType) {
+        return TypeMetaPool
+                .intern(new TypeMeta<>(resolvedType.getType(), resolvedType.getGenericTypes(), WildcardBound.LOWER));
+    }
+
+    @Override
+    protected TypeMeta<?> createResolvedItemUpperBound(TypeMeta<?> resolvedType) {
+        return TypeMetaPool
+                .intern(new TypeMeta<>(resolvedType.getType(), resolvedType.getGenericTypes(), WildcardBound.UPPER));
+    }
+
+    @Override
+    protected TypeMeta<?> createResolvedParameterizedType(Class<?> rawType, TypeMeta<?>[] resolvedArgumentTypes) {
+        return TypeMetaPool.intern(new TypeMeta<>(rawType, resolvedArgumentTypes));
+    }
+
+    @Override
+    protected boolean isCompilable(AnnotatedTypeResolver<TypeMeta<?>> annotatedTypeResolver) {
+        return annotatedTypeResolver instanceof AnnotatedTypeBaseResolver
+                || annotatedTypeResolver instanceof AnnotatedArrayTypeResolver
+                || annotatedTypeResolver instanceof AnnotatedParameterizedTypeResolver;
+    }
+
+    @Override
+    protected boolean isCompilable(TypeResolver<TypeMeta<?>> typeResolver) {
+        return typeResolver instanceof ClassTypeResolver || typeResolver instanceof GenericArrayTypeResolver
+                || typeResolver instanceof ParameterizedTypeResolver || typeResolver instanceof TypeVariableResolver
+                || typeResolver instanceof WildcardTypeResolver;
+    }
+}
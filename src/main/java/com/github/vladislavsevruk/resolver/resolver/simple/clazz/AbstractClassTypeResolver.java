@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.resolver.resolver.simple.clazz;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
 import com.github.vladislavsevruk.resolver.resolver.simple.TypeResolver;
 import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import com.github.vladislavsevruk.resolver.util.ClassMetadataUtil;
 import lombok.extern.log4j.Log4j2;
 
 import java.lang.reflect.Type;
@@ -84,7 +85,7 @@ public abstract class AbstractClassTypeResolver<T> implements TypeResolver<T> {
 
     private T resolveClassTypeParameters(TypeVariableMap<T> typeVariableMap, Class<?> actualClass) {
         log.debug(() -> String.format("'%s' already represents real class.", actualClass.getTypeName()));
-        TypeVariable<? extends Class<?>>[] classTypeParameters = actualClass.getTypeParameters();
+        TypeVariable<? extends Class<?>>[] classTypeParameters = ClassMetadataUtil.getTypeParameters(actualClass);
         if (classTypeParameters.length == 0) {
             return createResolvedItem(actualClass);
         }
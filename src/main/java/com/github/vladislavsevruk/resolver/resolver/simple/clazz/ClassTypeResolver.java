@@ -25,16 +25,41 @@ package com.github.vladislavsevruk.resolver.resolver.simple.clazz;
 
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeMetaPool;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import com.github.vladislavsevruk.resolver.util.ClassMetadataUtil;
+
+import java.lang.reflect.Type;
 
 /**
  * Resolves actual types for class types.
  */
 public final class ClassTypeResolver extends AbstractClassTypeResolver<TypeMeta<?>> {
 
+    // non-generic classes resolve to the same type meta regardless of type variable mappings
+    private final ClassValue<TypeMeta<?>> nonGenericClassTypeMetas = new ClassValue<TypeMeta<?>>() {
+        @Override
+        protected TypeMeta<?> computeValue(Class<?> type) {
+            return createResolvedItem(type);
+        }
+    };
+
     public ClassTypeResolver(TypeResolverPicker<TypeMeta<?>> typeResolverPicker) {
         super(typeResolverPicker);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypeMeta<?> resolve(TypeVariableMap<TypeMeta<?>> typeVariableMap, Type type) {
+        Class<?> actualClass = (Class<?>) type;
+        if (!actualClass.isArray() && ClassMetadataUtil.getTypeParameters(actualClass).length == 0) {
+            return nonGenericClassTypeMetas.get(actualClass);
+        }
+        return super.resolve(typeVariableMap, type);
+    }
+
     @Override
     protected TypeMeta<?>[] createComponentsArray(int length) {
         return new TypeMeta[length];
@@ -42,16 +67,16 @@ public final class ClassTypeResolver extends AbstractClassTypeResolver<TypeMeta<
 
     @Override
     protected TypeMeta<?> createResolvedArray(Class<?> actualClass, TypeMeta<?> resolvedComponentType) {
-        return new TypeMeta<>(actualClass, new TypeMeta<?>[]{ resolvedComponentType });
+        return TypeMetaPool.intern(new TypeMeta<>(actualClass, new TypeMeta<?>[]{ resolvedComponentType }));
     }
 
     @Override
     protected TypeMeta<?> createResolvedItem(Class<?> actualClass) {
-        return new TypeMeta<>(actualClass);
+        return TypeMetaPool.intern(new TypeMeta<>(actualClass));
     }
 
     @Override
     protected TypeMeta<?> createResolvedParameterizedType(Class<?> rawType, TypeMeta<?>[] resolvedArgumentTypes) {
-        return new TypeMeta<>(rawType, resolvedArgumentTypes);
+        return TypeMetaPool.intern(new TypeMeta<>(rawType, resolvedArgumentTypes));
     }
 }
@@ -25,6 +25,7 @@ package com.github.vladislavsevruk.resolver.resolver.simple.generic;
 
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeMetaPool;
 
 import java.lang.reflect.Array;
 
@@ -39,7 +40,8 @@ public final class GenericArrayTypeResolver extends AbstractGenericArrayTypeReso
 
     @Override
     protected TypeMeta<?> createResolvedArray(TypeMeta<?> resolvedMeta) {
-        return new TypeMeta<>(getArrayTypeByComponent(resolvedMeta), new TypeMeta<?>[]{ resolvedMeta });
+        return TypeMetaPool
+                .intern(new TypeMeta<>(getArrayTypeByComponent(resolvedMeta), new TypeMeta<?>[]{ resolvedMeta }));
     }
 
     private Class<?> getArrayTypeByComponent(TypeMeta<?> actualParameters) {
@@ -23,18 +23,42 @@
  */
 package com.github.vladislavsevruk.resolver.resolver.simple.parameterized;
 
+import com.github.vladislavsevruk.resolver.cache.WeakKeyCache;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeMetaPool;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import com.github.vladislavsevruk.resolver.util.GenericTypeUtil;
+
+import java.lang.reflect.Type;
 
 /**
  * Resolves actual types for parameterized types.
  */
 public final class ParameterizedTypeResolver extends AbstractParameterizedTypeResolver<TypeMeta<?>> {
 
+    // marks open types at cache so closedness of every type is checked only once
+    private static final TypeMeta<?> OPEN_TYPE = new TypeMeta<>(Void.class);
+    // closed parameterized types resolve to the same type meta regardless of type variable mappings
+    private final WeakKeyCache<Type, TypeMeta<?>> closedTypeMetas = new WeakKeyCache<>();
+    private final TypeVariableMap<TypeMeta<?>> emptyTypeVariableMap = new TypeVariableMap<>();
+
     public ParameterizedTypeResolver(TypeResolverPicker<TypeMeta<?>> typeResolverPicker) {
         super(typeResolverPicker);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypeMeta<?> resolve(TypeVariableMap<TypeMeta<?>> typeVariableMap, Type argumentType) {
+        TypeMeta<?> closedTypeMeta = closedTypeMetas.computeIfAbsent(argumentType, this::resolveIfClosed);
+        if (closedTypeMeta != OPEN_TYPE) {
+            return closedTypeMeta;
+        }
+        return super.resolve(typeVariableMap, argumentType);
+    }
+
     @Override
     protected TypeMeta<?>[] createArgumentsArray(int length) {
         return new TypeMeta[length];
@@ -42,6 +66,10 @@ public final class ParameterizedTypeResolver extends AbstractParameterizedTypeRe
 
     @Override
     protected TypeMeta<?> createResolvedParameterizedType(Class<?> rawReturnType, TypeMeta<?>[] resolvedArgumentTypes) {
-        return new TypeMeta<>(rawReturnType, resolvedArgumentTypes);
+        return TypeMetaPool.intern(new TypeMeta<>(rawReturnType, resolvedArgumentTypes));
+    }
+
+    private TypeMeta<?> resolveIfClosed(Type type) {
+        return GenericTypeUtil.isClosedType(type) ? super.resolve(emptyTypeVariableMap, type) : OPEN_TYPE;
     }
 }
@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.type;
+
+import com.github.vladislavsevruk.resolver.exception.TypeResolvingException;
+import com.github.vladislavsevruk.resolver.util.ClassMetadataUtil;
+import lombok.EqualsAndHashCode;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Represents class hierarchy with type variables that are mapped on demand. Type variables of specific class are
+ * mapped at first <code>getTypeVariableMap</code> call for this class and only classes on the path from hierarchy root
+ * to requested class are processed. If class is reachable by several paths the one that is mapped last by eager
+ * <code>MappedVariableHierarchy</code> is used so both hierarchies have the same precedence: superclass path wins
+ * over interfaces paths and latter interface wins over former one. Mapped values are memoized and can be safely
+ * requested from different threads.
+ *
+ * @param <T> type of mapped value for type variable.
+ */
+@Log4j2
+@EqualsAndHashCode(callSuper = false, onlyExplicitlyIncluded = true)
+public class LazyMappedVariableHierarchy<T> extends MappedVariableHierarchy<T> {
+
+    @EqualsAndHashCode.Include
+    private final T[] actualTypes;
+    private final Function<TypeVariable<? extends Class<?>>, T> defaultTypeFunction;
+    private final ConcurrentMap<Class<?>, TypeVariableMap<T>> mappedClasses = new ConcurrentHashMap<>();
+    @EqualsAndHashCode.Include
+    private final Class<?> rootClass;
+    private final BiFunction<TypeVariableMap<T>, Type[], T[]> typeArgumentsMapper;
+
+    /**
+     * Maps type variables of received class only. Superclasses are discovered when they are requested.
+     *
+     * @param clazz               <code>Class</code> to build hierarchy for.
+     * @param actualTypes         actual values for type variables of received class.
+     * @param typeArgumentsMapper function that resolves actual values of supertype arguments using type variable
+     *                            mappings of subclass.
+     * @param defaultTypeFunction function that provides value for type variable without actual value.
+     */
+    public LazyMappedVariableHierarchy(Class<?> clazz, T[] actualTypes,
+            BiFunction<TypeVariableMap<T>, Type[], T[]> typeArgumentsMapper,
+            Function<TypeVariable<? extends Class<?>>, T> defaultTypeFunction) {
+        log.debug(() -> String.format("Creating lazy class variable hierarchy for class '%s'.", clazz.getName()));
+        this.rootClass = clazz;
+        this.actualTypes = actualTypes;
+        this.typeArgumentsMapper = typeArgumentsMapper;
+        this.defaultTypeFunction = defaultTypeFunction;
+        mappedClasses.put(clazz, createTypeVariableMap(clazz, actualTypes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypeVariableMap<T> getTypeVariableMap(Class<?> clazz) {
+        TypeVariableMap<T> typeVariableMap = mappedClasses.get(clazz);
+        if (typeVariableMap != null) {
+            return typeVariableMap;
+        }
+        return mapPathTo(clazz);
+    }
+
+    private TypeVariableMap<T> createTypeVariableMap(Class<?> clazz, T[] actualTypes) {
+        log.debug(() -> String.format("Mapping type variables for class '%s'.", clazz.getName()));
+        TypeVariableMap<T> typeVariableMap = new TypeVariableMap<>();
+        TypeVariable<? extends Class<?>>[] typeVariables = ClassMetadataUtil.getTypeParameters(clazz);
+        for (int i = 0; i < typeVariables.length; ++i) {
+            TypeVariable<? extends Class<?>> typeVariable = typeVariables[i];
+            T actualType = actualTypes.length == 0 ? defaultTypeFunction.apply(typeVariable) : actualTypes[i];
+            typeVariableMap.addTypeVariable(typeVariable, actualType);
+        }
+        return typeVariableMap;
+    }
+
+    private boolean findPath(Class<?> currentClass, Class<?> targetClass, Deque<Class<?>> path,
+            Set<Class<?>> visitedClasses) {
+        if (currentClass.equals(targetClass)) {
+            return true;
+        }
+        // reverse order of eager mapping so found path is the one which mapping eager hierarchy keeps
+        Class<?> superclass = currentClass.getSuperclass();
+        if (superclass != null && !Object.class.equals(superclass) && findSupertypePath(superclass, targetClass, path,
+                visitedClasses)) {
+            return true;
+        }
+        Class<?>[] classInterfaces = ClassMetadataUtil.getInterfaces(currentClass);
+        for (int i = classInterfaces.length - 1; i >= 0; --i) {
+            if (findSupertypePath(classInterfaces[i], targetClass, path, visitedClasses)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean findSupertypePath(Class<?> supertype, Class<?> targetClass, Deque<Class<?>> path,
+            Set<Class<?>> visitedClasses) {
+        if (visitedClasses.add(supertype) && findPath(supertype, targetClass, path, visitedClasses)) {
+            path.addFirst(supertype);
+            return true;
+        }
+        return false;
+    }
+
+    private Type[] getActualTypeArguments(Type type) {
+        if (type instanceof ParameterizedType) {
+            return ((ParameterizedType) type).getActualTypeArguments();
+        }
+        return new Type[0];
+    }
+
+    private Type getGenericSupertype(Class<?> subclass, Class<?> supertype) {
+        Class<?>[] classInterfaces = ClassMetadataUtil.getInterfaces(subclass);
+        for (int i = 0; i < classInterfaces.length; ++i) {
+            if (classInterfaces[i].equals(supertype)) {
+                return ClassMetadataUtil.getGenericInterfaces(subclass)[i];
+            }
+        }
+        return ClassMetadataUtil.getGenericSuperclass(subclass);
+    }
+
+    private TypeVariableMap<T> mapPathTo(Class<?> targetClass) {
+        Deque<Class<?>> path = new ArrayDeque<>();
+        if (!findPath(rootClass, targetClass, path, new HashSet<>())) {
+            throw new TypeResolvingException(
+                    String.format("Class '%s' isn't present at this hierarchy.", targetClass.getName()));
+        }
+        Class<?> subclass = rootClass;
+        TypeVariableMap<T> subclassTypeVariableMap = mappedClasses.get(rootClass);
+        for (Class<?> supertype : path) {
+            TypeVariableMap<T> typeVariableMap = mappedClasses.get(supertype);
+            if (typeVariableMap == null) {
+                Type[] typeArguments = getActualTypeArguments(getGenericSupertype(subclass, supertype));
+                T[] supertypeActualTypes = typeArgumentsMapper.apply(subclassTypeVariableMap, typeArguments);
+                TypeVariableMap<T> newTypeVariableMap = createTypeVariableMap(supertype, supertypeActualTypes);
+                typeVariableMap = mappedClasses.putIfAbsent(supertype, newTypeVariableMap);
+                if (typeVariableMap == null) {
+                    typeVariableMap = newTypeVariableMap;
+                }
+            }
+            subclass = supertype;
+            subclassTypeVariableMap = typeVariableMap;
+        }
+        return subclassTypeVariableMap;
+    }
+}
@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.resolver.type;
 
 import com.github.vladislavsevruk.resolver.exception.TypeResolvingException;
+import com.github.vladislavsevruk.resolver.util.ClassMetadataUtil;
 import lombok.EqualsAndHashCode;
 import lombok.extern.log4j.Log4j2;
 
@@ -53,6 +54,12 @@ public class MappedVariableHierarchy<T> {
         buildHierarchy(clazz);
     }
 
+    /**
+     * Creates hierarchy without skeleton for subclasses that discover hierarchy classes on demand.
+     */
+    protected MappedVariableHierarchy() {
+    }
+
     /**
      * Adds mapped type variable for specific class in hierarchy.
      *
@@ -84,7 +91,7 @@ public class MappedVariableHierarchy<T> {
     private void buildHierarchy(Class<?> clazz) {
         TypeVariableMap<T> typeVariableMap = new TypeVariableMap<>();
         classMappedVariables.put(clazz, typeVariableMap);
-        for (Class<?> classInterface : clazz.getInterfaces()) {
+        for (Class<?> classInterface : ClassMetadataUtil.getInterfaces(clazz)) {
             if (!classMappedVariables.containsKey(classInterface)) {
                 buildHierarchy(classInterface);
             }
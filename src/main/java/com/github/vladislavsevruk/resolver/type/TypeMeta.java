@@ -23,26 +23,35 @@
  */
 package com.github.vladislavsevruk.resolver.type;
 
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
- * Metadata with actual types values for generic types.
+ * Metadata with actual types values for generic types. Type meta is immutable so its structural hash code is computed
+ * once on creation, generic types array received from getter shouldn't be modified.
  *
  * @param <T> type of class.
  */
 @Value
 public class TypeMeta<T> {
 
+    private static final TypeMeta<?>[] EMPTY_GENERIC_TYPES = new TypeMeta<?>[0];
     public static final TypeMeta<Object> OBJECT_META = new TypeMeta<>(Object.class);
     public static final TypeMeta<Object> WILDCARD_META = new TypeMeta<>(Object.class, WildcardBound.UPPER);
     TypeMeta<?>[] genericTypes;
     Class<T> type;
     WildcardBound wildcardBound;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    int hashCode;
 
     public TypeMeta(Class<T> type) {
-        this(type, new TypeMeta<?>[0]);
+        this(type, EMPTY_GENERIC_TYPES);
     }
 
     public TypeMeta(Class<T> type, TypeMeta<?>[] genericTypes) {
@@ -50,16 +59,49 @@ public class TypeMeta<T> {
     }
 
     public TypeMeta(Class<T> type, WildcardBound wildcardBound) {
-        this(type, new TypeMeta<?>[0], wildcardBound);
+        this(type, EMPTY_GENERIC_TYPES, wildcardBound);
     }
 
     public TypeMeta(Class<T> type, TypeMeta<?>[] genericTypes, WildcardBound wildcardBound) {
         this.type = type;
         this.genericTypes = genericTypes;
         this.wildcardBound = wildcardBound;
+        this.hashCode = computeHashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof TypeMeta)) {
+            return false;
+        }
+        TypeMeta<?> other = (TypeMeta<?>) object;
+        // comparing cached hash codes first allows to skip deep comparison of generic types for most of different metas
+        return hashCode == other.hashCode && Objects.equals(type, other.type) && wildcardBound == other.wildcardBound
+                && Arrays.equals(genericTypes, other.genericTypes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return hashCode;
     }
 
     public boolean isWildcard() {
         return Objects.nonNull(wildcardBound);
     }
+
+    private int computeHashCode() {
+        // generic types already have their hash codes computed so calculation isn't recursive
+        int result = Arrays.hashCode(genericTypes);
+        result = 31 * result + Objects.hashCode(type);
+        return 31 * result + Objects.hashCode(wildcardBound);
+    }
 }
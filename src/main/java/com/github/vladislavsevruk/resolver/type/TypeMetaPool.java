@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.type;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Optional pool of canonical <code>TypeMeta</code> instances. When pool is enabled resolvers return the same
+ * <code>TypeMeta</code> instance for structurally equal types so equality checks can be done by reference and
+ * duplicated type metas aren't retained. Pool holds weak references only so unused type metas can be garbage
+ * collected.
+ */
+public final class TypeMetaPool {
+
+    // power of two
+    private static final int SEGMENTS_NUMBER = 32;
+    private static final Segment[] SEGMENTS = new Segment[SEGMENTS_NUMBER];
+    private static volatile boolean enabled = false;
+
+    static {
+        for (int i = 0; i < SEGMENTS_NUMBER; ++i) {
+            SEGMENTS[i] = new Segment();
+        }
+        doIntern(TypeMeta.OBJECT_META);
+        doIntern(TypeMeta.WILDCARD_META);
+    }
+
+    private TypeMetaPool() {
+    }
+
+    /**
+     * Disables type meta interning. Type metas that were already interned remain at pool until they are garbage
+     * collected.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Enables type meta interning.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Returns canonical instance of received <code>TypeMeta</code> if pool is enabled. Generic types of canonical
+     * instance are canonical as well.
+     *
+     * @param typeMeta <code>TypeMeta</code> to intern.
+     * @param <T>      type of class.
+     * @return canonical <code>TypeMeta</code> instance if pool is enabled, received <code>TypeMeta</code> otherwise.
+     */
+    public static <T> TypeMeta<T> intern(TypeMeta<T> typeMeta) {
+        if (!enabled || typeMeta == null) {
+            return typeMeta;
+        }
+        return doIntern(typeMeta);
+    }
+
+    /**
+     * Returns <code>true</code> if type meta interning is enabled, <code>false</code> otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    private static <T> TypeMeta<T> doIntern(TypeMeta<T> typeMeta) {
+        Segment segment = getSegment(typeMeta);
+        TypeMeta<T> canonicalTypeMeta = segment.get(typeMeta);
+        if (canonicalTypeMeta != null) {
+            return canonicalTypeMeta;
+        }
+        return segment.putIfAbsent(withCanonicalGenericTypes(typeMeta));
+    }
+
+    private static Segment getSegment(TypeMeta<?> typeMeta) {
+        int hash = typeMeta.hashCode();
+        return SEGMENTS[(hash ^ (hash >>> 16)) & (SEGMENTS_NUMBER - 1)];
+    }
+
+    private static <T> TypeMeta<T> withCanonicalGenericTypes(TypeMeta<T> typeMeta) {
+        TypeMeta<?>[] genericTypes = typeMeta.getGenericTypes();
+        TypeMeta<?>[] canonicalGenericTypes = null;
+        for (int i = 0; i < genericTypes.length; ++i) {
+            TypeMeta<?> canonicalGenericType = doIntern(genericTypes[i]);
+            if (canonicalGenericType != genericTypes[i] && canonicalGenericTypes == null) {
+                canonicalGenericTypes = genericTypes.clone();
+            }
+            if (canonicalGenericTypes != null) {
+                canonicalGenericTypes[i] = canonicalGenericType;
+            }
+        }
+        if (canonicalGenericTypes == null) {
+            return typeMeta;
+        }
+        return new TypeMeta<>(typeMeta.getType(), canonicalGenericTypes, typeMeta.getWildcardBound());
+    }
+
+    private static final class Segment {
+
+        private final Map<TypeMeta<?>, WeakReference<TypeMeta<?>>> typeMetaMap = new WeakHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        synchronized <T> TypeMeta<T> get(TypeMeta<T> typeMeta) {
+            WeakReference<TypeMeta<?>> reference = typeMetaMap.get(typeMeta);
+            return reference == null ? null : (TypeMeta<T>) reference.get();
+        }
+
+        synchronized <T> TypeMeta<T> putIfAbsent(TypeMeta<T> typeMeta) {
+            TypeMeta<T> canonicalTypeMeta = get(typeMeta);
+            if (canonicalTypeMeta != null) {
+                return canonicalTypeMeta;
+            }
+            typeMetaMap.put(typeMeta, new WeakReference<>(typeMeta));
+            return typeMeta;
+        }
+    }
+}
@@ -23,10 +23,17 @@
  */
 package com.github.vladislavsevruk.resolver.type;
 
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
 import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.metrics.NoOpResolvingMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingEntryPoint;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetrics;
 import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
 
 import java.lang.reflect.TypeVariable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Class that used for generating type meta for generic classes. Should be overridden for providing values. Class has
@@ -35,12 +42,23 @@ import java.lang.reflect.TypeVariable;
  * <br>E.g., to provide meta data for list of strings properly anonymous descendant of <code>TypeProvider</code> can be
  * used: <br>
  * <code>new TypeProvider&lt;List&lt;String&gt;&gt;() {}</code>
+ * <br>Resolved type meta depends only on descendant class so it's shared by all instances of the same descendant and
+ * anonymous descendant created at method body is resolved once per type variable mapper. Concurrent threads may
+ * resolve it simultaneously but only one resolved type meta is shared.
  *
  * @param <T> actual type.
  */
 public abstract class TypeProvider<T> implements Comparable<TypeProvider<T>> {
 
-    private TypeMeta<?> typeMeta;
+    // mappers are weak keys so refreshed resolving contexts aren't retained by descendant classes
+    private static final ClassValue<Map<TypeVariableMapper<TypeMeta<?>>, TypeMeta<?>>> TYPE_METAS
+            = new ClassValue<Map<TypeVariableMapper<TypeMeta<?>>, TypeMeta<?>>>() {
+        @Override
+        protected Map<TypeVariableMapper<TypeMeta<?>>, TypeMeta<?>> computeValue(Class<?> type) {
+            return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+    };
+    private volatile TypeMeta<?> typeMeta;
 
     /**
      * {@inheritDoc}
@@ -66,24 +84,35 @@ public abstract class TypeProvider<T> implements Comparable<TypeProvider<T>> {
      */
     @SuppressWarnings("java:S1452")
     public TypeMeta<?> getTypeMeta() {
-        if (typeMeta == null) {
-            typeMeta = resolveGenericParameter(TypeMetaResolvingContextManager.getContext().getTypeVariableMapper());
+        TypeMeta<?> resolvedTypeMeta = typeMeta;
+        if (resolvedTypeMeta == null) {
+            resolvedTypeMeta = getTypeMeta(TypeMetaResolvingContextManager.getContext());
         }
-        return typeMeta;
+        return resolvedTypeMeta;
     }
 
     /**
-     * Returns type meta for this instance.
+     * Returns type meta for this instance. Resolving is recorded at resolving metrics of received context.
+     *
+     * @param context <code>ResolvingContext</code> which type variable mapper is used for resolving instance type
+     *                variables.
+     * @return resolved type meta for this instance.
+     */
+    @SuppressWarnings("java:S1452")
+    public TypeMeta<?> getTypeMeta(ResolvingContext<TypeMeta<?>> context) {
+        return getTypeMeta(context.getTypeVariableMapper(), context.getResolvingMetrics());
+    }
+
+    /**
+     * Returns type meta for this instance. Resolving isn't recorded at resolving metrics as received mapper isn't bound
+     * to any resolving context, use {@link #getTypeMeta(ResolvingContext)} to record it.
      *
      * @param typeVariableMapper <code>TypeVariableMapper</code> to use for resolving instance type variables.
      * @return resolved type meta for this instance.
      */
     @SuppressWarnings("java:S1452")
     public TypeMeta<?> getTypeMeta(TypeVariableMapper<TypeMeta<?>> typeVariableMapper) {
-        if (typeMeta == null) {
-            typeMeta = resolveGenericParameter(typeVariableMapper);
-        }
-        return typeMeta;
+        return getTypeMeta(typeVariableMapper, NoOpResolvingMetrics.INSTANCE);
     }
 
     /**
@@ -94,7 +123,26 @@ public abstract class TypeProvider<T> implements Comparable<TypeProvider<T>> {
         return getTypeMeta().hashCode();
     }
 
-    private TypeMeta<?> resolveGenericParameter(TypeVariableMapper<TypeMeta<?>> typeVariableMapper) {
+    private TypeMeta<?> getTypeMeta(TypeVariableMapper<TypeMeta<?>> typeVariableMapper,
+            ResolvingMetrics resolvingMetrics) {
+        TypeMeta<?> resolvedTypeMeta = typeMeta;
+        if (resolvedTypeMeta == null) {
+            Map<TypeVariableMapper<TypeMeta<?>>, TypeMeta<?>> typeMetas = TYPE_METAS.get(getClass());
+            resolvedTypeMeta = typeMetas.get(typeVariableMapper);
+            if (resolvedTypeMeta == null) {
+                // resolved outside of lock so resolving for other mappers isn't blocked by mapping of type variables
+                TypeMeta<?> computedTypeMeta = resolveGenericParameter(typeVariableMapper, resolvingMetrics);
+                TypeMeta<?> presentTypeMeta = typeMetas.putIfAbsent(typeVariableMapper, computedTypeMeta);
+                resolvedTypeMeta = presentTypeMeta == null ? computedTypeMeta : presentTypeMeta;
+            }
+            typeMeta = resolvedTypeMeta;
+        }
+        return resolvedTypeMeta;
+    }
+
+    private TypeMeta<?> resolveGenericParameter(TypeVariableMapper<TypeMeta<?>> typeVariableMapper,
+            ResolvingMetrics resolvingMetrics) {
+        resolvingMetrics.recordResolve(ResolvingEntryPoint.TYPE_PROVIDER);
         TypeVariable<? extends Class<?>> typeVariable = TypeProvider.class.getTypeParameters()[0];
         return typeVariableMapper.mapTypeVariables(getClass()).getTypeVariableMap(TypeProvider.class)
                 .getActualType(typeVariable);
@@ -23,21 +23,47 @@
  */
 package com.github.vladislavsevruk.resolver.type;
 
-import lombok.EqualsAndHashCode;
-
 import java.lang.reflect.TypeVariable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Represents type variables that were used in generic class declaration and their actual values.
+ * Class declares small ordered set of type variables so mappings are kept at compact parallel arrays in order of
+ * addition that usually matches type parameters order at class declaration.
  *
  * @param <T> type of mapped value for type variable.
  */
-@EqualsAndHashCode
 public class TypeVariableMap<T> {
 
-    private final Map<TypeVariable<? extends Class<?>>, T> typeVariableMappings = new HashMap<>();
+    private static final Object[] EMPTY_ACTUAL_TYPES = new Object[0];
+    private static final TypeVariable<?>[] EMPTY_TYPE_VARIABLES = new TypeVariable<?>[0];
+    private Object[] actualTypes = EMPTY_ACTUAL_TYPES;
+    private TypeVariable<?>[] typeVariables = EMPTY_TYPE_VARIABLES;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TypeVariableMap)) {
+            return false;
+        }
+        TypeVariableMap<?> that = (TypeVariableMap<?>) o;
+        if (typeVariables.length != that.typeVariables.length) {
+            return false;
+        }
+        for (int i = 0; i < typeVariables.length; ++i) {
+            int index = that.indexOf(typeVariables[i]);
+            if (index == -1 || !Objects.equals(actualTypes[i], that.actualTypes[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
 
     /**
      * Returns actual type for type variable that was used at class declaration.
@@ -45,8 +71,23 @@ public class TypeVariableMap<T> {
      * @param typeVariable <code>TypeVariable</code> to get matching actual <code>Type</code> for.
      * @return actual type that matches received <code>TypeVariable</code>.
      */
+    @SuppressWarnings("unchecked")
     public T getActualType(TypeVariable<? extends Class<?>> typeVariable) {
-        return typeVariableMappings.get(typeVariable);
+        int index = indexOf(typeVariable);
+        return index == -1 ? null : (T) actualTypes[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        // order independent to match equals
+        int hashCode = 0;
+        for (int i = 0; i < typeVariables.length; ++i) {
+            hashCode += Objects.hashCode(typeVariables[i]) ^ Objects.hashCode(actualTypes[i]);
+        }
+        return hashCode;
     }
 
     /**
@@ -56,6 +97,32 @@ public class TypeVariableMap<T> {
      * @param actualType   actual type that matches received <code>TypeVariable</code>.
      */
     void addTypeVariable(TypeVariable<? extends Class<?>> typeVariable, T actualType) {
-        typeVariableMappings.put(typeVariable, actualType);
+        int index = indexOf(typeVariable);
+        if (index == -1) {
+            index = typeVariables.length;
+            typeVariables = Arrays.copyOf(typeVariables, index + 1);
+            actualTypes = Arrays.copyOf(actualTypes, index + 1);
+            typeVariables[index] = typeVariable;
+        }
+        actualTypes[index] = actualType;
+    }
+
+    private int indexOf(TypeVariable<?> typeVariable) {
+        // per-class index kept at ClassMetadataUtil isn't used as it requires getGenericDeclaration() and ClassValue
+        // lookup on every call that cost several times more than scan of few type variables class declares
+        // type variables received from class declaration are usually the same instances so check identity first
+        for (int i = 0; i < typeVariables.length; ++i) {
+            if (typeVariables[i] == typeVariable) {
+                return i;
+            }
+        }
+        if (typeVariable != null) {
+            for (int i = 0; i < typeVariables.length; ++i) {
+                if (typeVariable.equals(typeVariables[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
     }
 }
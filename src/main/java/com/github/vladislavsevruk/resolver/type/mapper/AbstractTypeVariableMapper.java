@@ -25,12 +25,14 @@ package com.github.vladislavsevruk.resolver.type.mapper;
 
 import com.github.vladislavsevruk.resolver.context.ResolvingContext;
 import com.github.vladislavsevruk.resolver.exception.TypeResolvingException;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingEvents;
+import com.github.vladislavsevruk.resolver.type.LazyMappedVariableHierarchy;
 import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import com.github.vladislavsevruk.resolver.util.ClassMetadataUtil;
 import lombok.extern.log4j.Log4j2;
 
-import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
@@ -45,10 +47,25 @@ import java.util.function.IntFunction;
 @Log4j2
 public abstract class AbstractTypeVariableMapper<T> implements TypeVariableMapper<T> {
 
+    private final boolean lazyHierarchy;
     private ResolvingContext<T> resolvingContext;
 
     protected AbstractTypeVariableMapper(ResolvingContext<T> resolvingContext) {
+        this(resolvingContext, false);
+    }
+
+    /**
+     * Creates mapper that generates either eagerly mapped hierarchies or hierarchies that map type variables of
+     * specific class on first request only.
+     *
+     * @param resolvingContext <code>ResolvingContext</code> to use for type resolving.
+     * @param lazyHierarchy    <code>true</code> if generated hierarchies should be populated lazily, <code>false</code>
+     *                         otherwise.
+     * @see LazyMappedVariableHierarchy
+     */
+    protected AbstractTypeVariableMapper(ResolvingContext<T> resolvingContext, boolean lazyHierarchy) {
         this.resolvingContext = resolvingContext;
+        this.lazyHierarchy = lazyHierarchy;
     }
 
     /**
@@ -56,7 +73,7 @@ public abstract class AbstractTypeVariableMapper<T> implements TypeVariableMappe
      */
     @Override
     public MappedVariableHierarchy<T> mapTypeVariables(Class<?> clazz) {
-        if (clazz.getTypeParameters().length != 0) {
+        if (ClassMetadataUtil.getTypeParameters(clazz).length != 0) {
             log.warn("Unresolved generic parameters detected - TypeProvider wasn't used or set properly. "
                     + "Some unexpected issues may appear.");
         }
@@ -70,8 +87,13 @@ public abstract class AbstractTypeVariableMapper<T> implements TypeVariableMappe
     public MappedVariableHierarchy<T> mapTypeVariables(TypeMeta<?> typeMeta) {
         Class<?> clazz = typeMeta.getType();
         log.debug(() -> String.format("Getting mapped variable hierarchy for class '%s'.", clazz.getName()));
-        MappedVariableHierarchy<T> mappedVariableHierarchy = new MappedVariableHierarchy<>(clazz);
-        mapTypeVariables(mappedVariableHierarchy, clazz, getActualTypes(typeMeta));
+        long startNanos = System.nanoTime();
+        MappedVariableHierarchy<T> mappedVariableHierarchy = doMapTypeVariables(typeMeta);
+        long durationNanos = System.nanoTime() - startNanos;
+        context().getResolvingMetrics().recordTypeVariablesMapping(typeMeta, durationNanos);
+        if (ResolvingEvents.isHierarchyBuiltEnabled()) {
+            ResolvingEvents.hierarchyBuilt(typeMeta, durationNanos);
+        }
         return mappedVariableHierarchy;
     }
 
@@ -85,11 +107,23 @@ public abstract class AbstractTypeVariableMapper<T> implements TypeVariableMappe
 
     protected abstract IntFunction<T[]> getNewArrayFunction();
 
+    private MappedVariableHierarchy<T> doMapTypeVariables(TypeMeta<?> typeMeta) {
+        Class<?> clazz = typeMeta.getType();
+        if (lazyHierarchy) {
+            T[] actualTypes = getActualTypes(typeMeta);
+            verifyNumberOfTypesMatch(clazz, actualTypes);
+            return new LazyMappedVariableHierarchy<>(clazz, actualTypes, this::mapTypes, this::getDefaultType);
+        }
+        MappedVariableHierarchy<T> mappedVariableHierarchy = new MappedVariableHierarchy<>(clazz);
+        mapTypeVariables(mappedVariableHierarchy, clazz, getActualTypes(typeMeta));
+        return mappedVariableHierarchy;
+    }
+
     private void doMapTypeVariables(MappedVariableHierarchy<T> mappedVariableHierarchy, Class<?> clazz,
             T[] actualTypes) {
         log.debug(() -> String.format("Mapping type variables for class '%s'.", clazz.getName()));
         verifyNumberOfTypesMatch(clazz, actualTypes);
-        TypeVariable<? extends Class<?>>[] typeVariables = clazz.getTypeParameters();
+        TypeVariable<? extends Class<?>>[] typeVariables = ClassMetadataUtil.getTypeParameters(clazz);
         for (int i = 0; i < typeVariables.length; ++i) {
             TypeVariable<? extends Class<?>> typeVariable = typeVariables[i];
             T actualType = actualTypes.length == 0 ? getDefaultType(typeVariable) : actualTypes[i];
@@ -111,14 +145,14 @@ public abstract class AbstractTypeVariableMapper<T> implements TypeVariableMappe
         }
         doMapTypeVariables(mappedVariableHierarchy, clazz, actualTypes);
         TypeVariableMap<T> typeVariableMap = mappedVariableHierarchy.getTypeVariableMap(clazz);
-        AnnotatedType[] classInterfaces = clazz.getAnnotatedInterfaces();
+        Class<?>[] classInterfaces = ClassMetadataUtil.getInterfaces(clazz);
+        Type[] genericInterfaces = ClassMetadataUtil.getGenericInterfaces(clazz);
         for (int i = 0; i < classInterfaces.length; ++i) {
-            Type interfaceType = classInterfaces[i].getType();
-            T[] actualTypeMetas = mapTypes(typeVariableMap, getActualTypeArguments(interfaceType));
-            mapTypeVariables(mappedVariableHierarchy, clazz.getInterfaces()[i], actualTypeMetas);
+            T[] actualTypeMetas = mapTypes(typeVariableMap, getActualTypeArguments(genericInterfaces[i]));
+            mapTypeVariables(mappedVariableHierarchy, classInterfaces[i], actualTypeMetas);
         }
-        if (clazz.getAnnotatedSuperclass() != null) {
-            Type superclassType = clazz.getAnnotatedSuperclass().getType();
+        Type superclassType = ClassMetadataUtil.getGenericSuperclass(clazz);
+        if (superclassType != null) {
             T[] actualTypeMetas = mapTypes(typeVariableMap, getActualTypeArguments(superclassType));
             mapTypeVariables(mappedVariableHierarchy, clazz.getSuperclass(), actualTypeMetas);
         }
@@ -131,7 +165,7 @@ public abstract class AbstractTypeVariableMapper<T> implements TypeVariableMappe
     }
 
     private void verifyNumberOfTypesMatch(Class<?> clazz, T[] actualTypes) {
-        TypeVariable<? extends Class<?>>[] typeVariables = clazz.getTypeParameters();
+        TypeVariable<? extends Class<?>>[] typeVariables = ClassMetadataUtil.getTypeParameters(clazz);
         if (actualTypes.length == 0) {
             // non-resolved types
             return;
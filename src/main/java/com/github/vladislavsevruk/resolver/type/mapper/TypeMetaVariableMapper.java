@@ -46,6 +46,10 @@ public final class TypeMetaVariableMapper extends AbstractTypeVariableMapper<Typ
         super(resolvingContext);
     }
 
+    public TypeMetaVariableMapper(ResolvingContext<TypeMeta<?>> resolvingContext, boolean lazyHierarchy) {
+        super(resolvingContext, lazyHierarchy);
+    }
+
     @Override
     protected TypeMeta<?>[] getActualTypes(TypeMeta<?> actualType) {
         return actualType.getGenericTypes();
@@ -24,24 +24,56 @@
 package com.github.vladislavsevruk.resolver.type.storage;
 
 import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.ResolvingModuleType;
+import com.github.vladislavsevruk.resolver.context.StatefulResolvingModule;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetrics;
 import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Base implementation of <code>MappedVariableHierarchyStorage</code> with common logic.
+ * Base implementation of <code>MappedVariableHierarchyStorage</code> with common logic. Hierarchies for different type
+ * metas are built concurrently without global lock while hierarchy for the same type meta is built only once.
  *
  * @param <T> type of mapped value for type variable.
  */
-public class BaseMappedVariableHierarchyStorage<T> implements MappedVariableHierarchyStorage<T> {
+public class BaseMappedVariableHierarchyStorage<T> implements MappedVariableHierarchyStorage<T>,
+        StatefulResolvingModule<T, MappedVariableHierarchyStorage<T>> {
 
-    private Map<TypeMeta<?>, MappedVariableHierarchy<T>> hierarchyMap = new ConcurrentHashMap<>();
+    private final Map<TypeMeta<?>, MappedVariableHierarchy<T>> hierarchyMap;
     private ResolvingContext<T> resolvingContext;
 
     public BaseMappedVariableHierarchyStorage(ResolvingContext<T> resolvingContext) {
         this.resolvingContext = resolvingContext;
+        this.hierarchyMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates new instance bound to received context that shares stored hierarchies with received storage.
+     *
+     * @param resolvingContext <code>ResolvingContext</code> for new instance.
+     * @param storage          storage to share hierarchies with.
+     */
+    protected BaseMappedVariableHierarchyStorage(ResolvingContext<T> resolvingContext,
+            BaseMappedVariableHierarchyStorage<T> storage) {
+        this.resolvingContext = resolvingContext;
+        this.hierarchyMap = storage.hierarchyMap;
+    }
+
+    /**
+     * {@inheritDoc} Subclasses that don't override this method are recreated as carried over instance would lose
+     * their type.
+     */
+    @Override
+    public MappedVariableHierarchyStorage<T> carryOver(ResolvingContext<T> resolvingContext) {
+        if (getClass() != BaseMappedVariableHierarchyStorage.class) {
+            return null;
+        }
+        return new BaseMappedVariableHierarchyStorage<>(resolvingContext, this);
     }
 
     /**
@@ -49,20 +81,34 @@ public class BaseMappedVariableHierarchyStorage<T> implements MappedVariableHier
      */
     @Override
     public MappedVariableHierarchy<T> get(TypeMeta<?> typeMeta) {
-        if (!hierarchyMap.containsKey(typeMeta)) {
-            buildHierarchy(typeMeta);
+        ResolvingMetrics metrics = context().getResolvingMetrics();
+        metrics.recordHierarchyRequest();
+        MappedVariableHierarchy<T> hierarchy = hierarchyMap.get(typeMeta);
+        if (hierarchy != null) {
+            return hierarchy;
         }
-        return hierarchyMap.get(typeMeta);
+        // computeIfAbsent locks only the bin of received key even if value is already present so it's used on miss only
+        hierarchy = hierarchyMap.computeIfAbsent(typeMeta, this::buildHierarchy);
+        metrics.recordHierarchyStorageSize(hierarchyMap.size());
+        return hierarchy;
+    }
+
+    /**
+     * {@inheritDoc} Hierarchies are built by <code>TypeVariableMapper</code> with picked type resolvers so they are
+     * kept while neither mapper nor type resolver picker and storage are replaced.
+     */
+    @Override
+    public Set<ResolvingModuleType> getStateDependencies() {
+        return EnumSet.of(ResolvingModuleType.TYPE_RESOLVER_PICKER, ResolvingModuleType.TYPE_RESOLVER_STORAGE,
+                ResolvingModuleType.TYPE_VARIABLE_MAPPER);
     }
 
     protected ResolvingContext<T> context() {
         return resolvingContext;
     }
 
-    private synchronized void buildHierarchy(TypeMeta<?> typeMeta) {
-        // second check after synchronization
-        if (!hierarchyMap.containsKey(typeMeta)) {
-            hierarchyMap.put(typeMeta, context().getTypeVariableMapper().mapTypeVariables(typeMeta));
-        }
+    private MappedVariableHierarchy<T> buildHierarchy(TypeMeta<?> typeMeta) {
+        context().getResolvingMetrics().recordHierarchyCacheMiss();
+        return context().getTypeVariableMapper().mapTypeVariables(typeMeta);
     }
 }
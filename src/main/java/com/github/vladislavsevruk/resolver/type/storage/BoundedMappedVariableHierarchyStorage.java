@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.type.storage;
+
+import com.github.vladislavsevruk.resolver.cache.BoundedCache;
+import com.github.vladislavsevruk.resolver.cache.CacheStatistics;
+import com.github.vladislavsevruk.resolver.cache.EvictionPolicy;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.ResolvingModuleType;
+import com.github.vladislavsevruk.resolver.context.StatefulResolvingModule;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetrics;
+import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Implementation of <code>MappedVariableHierarchyStorage</code> with bounded number of stored hierarchies. When
+ * maximum number of hierarchies is exceeded hierarchies selected by eviction policy are removed and rebuilt on next
+ * request.
+ *
+ * @param <T> type of mapped value for type variable.
+ */
+public class BoundedMappedVariableHierarchyStorage<T> implements MappedVariableHierarchyStorage<T>,
+        StatefulResolvingModule<T, MappedVariableHierarchyStorage<T>> {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+    private final BoundedCache<TypeMeta<?>, MappedVariableHierarchy<T>> hierarchyCache;
+    private final ResolvingContext<T> resolvingContext;
+
+    public BoundedMappedVariableHierarchyStorage(ResolvingContext<T> resolvingContext) {
+        this(resolvingContext, DEFAULT_MAXIMUM_SIZE, EvictionPolicy.LRU);
+    }
+
+    public BoundedMappedVariableHierarchyStorage(ResolvingContext<T> resolvingContext, int maximumSize,
+            EvictionPolicy evictionPolicy) {
+        this.resolvingContext = resolvingContext;
+        this.hierarchyCache = new BoundedCache<>(maximumSize, evictionPolicy);
+    }
+
+    /**
+     * Creates new instance bound to received context that shares stored hierarchies with received storage.
+     *
+     * @param resolvingContext <code>ResolvingContext</code> for new instance.
+     * @param storage          storage to share hierarchies with.
+     */
+    protected BoundedMappedVariableHierarchyStorage(ResolvingContext<T> resolvingContext,
+            BoundedMappedVariableHierarchyStorage<T> storage) {
+        this.resolvingContext = resolvingContext;
+        this.hierarchyCache = storage.hierarchyCache;
+    }
+
+    /**
+     * {@inheritDoc} Subclasses that don't override this method are recreated as carried over instance would lose
+     * their type.
+     */
+    @Override
+    public MappedVariableHierarchyStorage<T> carryOver(ResolvingContext<T> resolvingContext) {
+        if (getClass() != BoundedMappedVariableHierarchyStorage.class) {
+            return null;
+        }
+        return new BoundedMappedVariableHierarchyStorage<>(resolvingContext, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MappedVariableHierarchy<T> get(TypeMeta<?> typeMeta) {
+        context().getResolvingMetrics().recordHierarchyRequest();
+        return hierarchyCache.computeIfAbsent(typeMeta, this::buildHierarchy);
+    }
+
+    /**
+     * {@inheritDoc} Hierarchies are built by <code>TypeVariableMapper</code> with picked type resolvers so they are
+     * kept while neither mapper nor type resolver picker and storage are replaced.
+     */
+    @Override
+    public Set<ResolvingModuleType> getStateDependencies() {
+        return EnumSet.of(ResolvingModuleType.TYPE_RESOLVER_PICKER, ResolvingModuleType.TYPE_RESOLVER_STORAGE,
+                ResolvingModuleType.TYPE_VARIABLE_MAPPER);
+    }
+
+    /**
+     * Returns snapshot of hierarchy cache statistics.
+     */
+    public CacheStatistics getStatistics() {
+        return hierarchyCache.getStatistics();
+    }
+
+    protected ResolvingContext<T> context() {
+        return resolvingContext;
+    }
+
+    private MappedVariableHierarchy<T> buildHierarchy(TypeMeta<?> typeMeta) {
+        ResolvingMetrics metrics = context().getResolvingMetrics();
+        metrics.recordHierarchyCacheMiss();
+        MappedVariableHierarchy<T> hierarchy = context().getTypeVariableMapper().mapTypeVariables(typeMeta);
+        // built hierarchy is stored right after this call so it's taken into account while eviction isn't needed
+        metrics.recordHierarchyStorageSize(Math.min(hierarchyCache.size() + 1, hierarchyCache.getMaximumSize()));
+        return hierarchy;
+    }
+}
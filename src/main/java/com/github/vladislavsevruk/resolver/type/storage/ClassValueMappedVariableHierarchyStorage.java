@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.type.storage;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.ResolvingModuleType;
+import com.github.vladislavsevruk.resolver.context.StatefulResolvingModule;
+import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of <code>MappedVariableHierarchyStorage</code> that keeps hierarchies at <code>ClassValue</code> of
+ * classes they were built for so stored hierarchies don't prevent class loaders from being garbage collected. Every
+ * hierarchy is stored at class of received type meta tree that was loaded by the deepest class loader so type metas
+ * like <code>List&lt;WebappClass&gt;</code> are stored at <code>WebappClass</code> rather than at
+ * <code>List</code>. Note that bounded caches like default <code>FieldTypeCache</code> strongly reference owner types
+ * and members until they are evicted or cleared, so unloading of class loaders isn't guaranteed while such caches are
+ * enabled at the same context.
+ *
+ * @param <T> type of mapped value for type variable.
+ */
+public class ClassValueMappedVariableHierarchyStorage<T> implements MappedVariableHierarchyStorage<T>,
+        StatefulResolvingModule<T, MappedVariableHierarchyStorage<T>> {
+
+    private static final ClassValue<Integer> CLASS_LOADER_DEPTH = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int depth = 0;
+            for (ClassLoader classLoader = type.getClassLoader(); classLoader != null;
+                    classLoader = classLoader.getParent()) {
+                ++depth;
+            }
+            return depth;
+        }
+    };
+    private final ClassValue<Map<TypeMeta<?>, MappedVariableHierarchy<T>>> hierarchyMaps;
+    private final ResolvingContext<T> resolvingContext;
+
+    public ClassValueMappedVariableHierarchyStorage(ResolvingContext<T> resolvingContext) {
+        this.resolvingContext = resolvingContext;
+        this.hierarchyMaps = new ClassValue<Map<TypeMeta<?>, MappedVariableHierarchy<T>>>() {
+            @Override
+            protected Map<TypeMeta<?>, MappedVariableHierarchy<T>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    /**
+     * Creates new instance bound to received context that shares stored hierarchies with received storage.
+     *
+     * @param resolvingContext <code>ResolvingContext</code> for new instance.
+     * @param storage          storage to share hierarchies with.
+     */
+    protected ClassValueMappedVariableHierarchyStorage(ResolvingContext<T> resolvingContext,
+            ClassValueMappedVariableHierarchyStorage<T> storage) {
+        this.resolvingContext = resolvingContext;
+        this.hierarchyMaps = storage.hierarchyMaps;
+    }
+
+    /**
+     * {@inheritDoc} Subclasses that don't override this method are recreated as carried over instance would lose
+     * their type.
+     */
+    @Override
+    public MappedVariableHierarchyStorage<T> carryOver(ResolvingContext<T> resolvingContext) {
+        if (getClass() != ClassValueMappedVariableHierarchyStorage.class) {
+            return null;
+        }
+        return new ClassValueMappedVariableHierarchyStorage<>(resolvingContext, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MappedVariableHierarchy<T> get(TypeMeta<?> typeMeta) {
+        context().getResolvingMetrics().recordHierarchyRequest();
+        Map<TypeMeta<?>, MappedVariableHierarchy<T>> hierarchyMap = hierarchyMaps.get(getAnchorClass(typeMeta));
+        MappedVariableHierarchy<T> hierarchy = hierarchyMap.get(typeMeta);
+        if (hierarchy != null) {
+            return hierarchy;
+        }
+        return hierarchyMap.computeIfAbsent(typeMeta, this::buildHierarchy);
+    }
+
+    /**
+     * {@inheritDoc} Hierarchies are built by <code>TypeVariableMapper</code> with picked type resolvers so they are
+     * kept while neither mapper nor type resolver picker and storage are replaced.
+     */
+    @Override
+    public Set<ResolvingModuleType> getStateDependencies() {
+        return EnumSet.of(ResolvingModuleType.TYPE_RESOLVER_PICKER, ResolvingModuleType.TYPE_RESOLVER_STORAGE,
+                ResolvingModuleType.TYPE_VARIABLE_MAPPER);
+    }
+
+    protected ResolvingContext<T> context() {
+        return resolvingContext;
+    }
+
+    /**
+     * Returns class of received type meta tree that was loaded by the deepest class loader. Hierarchy for type meta is
+     * stored at this class so it's collected together with the most short-living class loader.
+     *
+     * @param typeMeta <code>TypeMeta</code> to get anchor class for.
+     * @return class of type meta tree loaded by the deepest class loader.
+     */
+    protected Class<?> getAnchorClass(TypeMeta<?> typeMeta) {
+        Class<?> anchorClass = typeMeta.getType();
+        int anchorDepth = CLASS_LOADER_DEPTH.get(anchorClass);
+        for (TypeMeta<?> genericType : typeMeta.getGenericTypes()) {
+            Class<?> genericAnchorClass = getAnchorClass(genericType);
+            int genericAnchorDepth = CLASS_LOADER_DEPTH.get(genericAnchorClass);
+            if (genericAnchorDepth > anchorDepth) {
+                anchorClass = genericAnchorClass;
+                anchorDepth = genericAnchorDepth;
+            }
+        }
+        return anchorClass;
+    }
+
+    private MappedVariableHierarchy<T> buildHierarchy(TypeMeta<?> typeMeta) {
+        // hierarchies are spread between classes so storage size isn't reported
+        context().getResolvingMetrics().recordHierarchyCacheMiss();
+        return context().getTypeVariableMapper().mapTypeVariables(typeMeta);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.type.storage;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Implementation of <code>ClassValueMappedVariableHierarchyStorage</code> for TypeMeta.
+ *
+ * @see ClassValueMappedVariableHierarchyStorage
+ * @see TypeMeta
+ */
+public final class TypeMetaClassValueMappedVariableHierarchyStorage
+        extends ClassValueMappedVariableHierarchyStorage<TypeMeta<?>> {
+
+    public TypeMetaClassValueMappedVariableHierarchyStorage() {
+        this(TypeMetaResolvingContextManager.getContext());
+    }
+
+    public TypeMetaClassValueMappedVariableHierarchyStorage(ResolvingContext<TypeMeta<?>> resolvingContext) {
+        super(resolvingContext);
+    }
+
+    private TypeMetaClassValueMappedVariableHierarchyStorage(ResolvingContext<TypeMeta<?>> resolvingContext,
+            TypeMetaClassValueMappedVariableHierarchyStorage storage) {
+        super(resolvingContext, storage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MappedVariableHierarchyStorage<TypeMeta<?>> carryOver(ResolvingContext<TypeMeta<?>> resolvingContext) {
+        return new TypeMetaClassValueMappedVariableHierarchyStorage(resolvingContext, this);
+    }
+}
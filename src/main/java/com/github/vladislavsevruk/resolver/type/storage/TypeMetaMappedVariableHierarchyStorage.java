@@ -42,4 +42,17 @@ public final class TypeMetaMappedVariableHierarchyStorage extends BaseMappedVari
     public TypeMetaMappedVariableHierarchyStorage(ResolvingContext<TypeMeta<?>> resolvingContext) {
         super(resolvingContext);
     }
+
+    private TypeMetaMappedVariableHierarchyStorage(ResolvingContext<TypeMeta<?>> resolvingContext,
+            TypeMetaMappedVariableHierarchyStorage storage) {
+        super(resolvingContext, storage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MappedVariableHierarchyStorage<TypeMeta<?>> carryOver(ResolvingContext<TypeMeta<?>> resolvingContext) {
+        return new TypeMetaMappedVariableHierarchyStorage(resolvingContext, this);
+    }
 }
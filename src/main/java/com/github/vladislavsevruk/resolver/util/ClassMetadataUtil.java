@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+
+/**
+ * Utility methods for getting reflective metadata of classes. <code>Class</code> methods return new array copy on
+ * every call so metadata is read once per class and shared afterwards. Returned arrays are shared between all callers
+ * and shouldn't be modified.
+ */
+public final class ClassMetadataUtil {
+
+    private static final ClassValue<ClassMetadata> CLASS_METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private ClassMetadataUtil() {
+    }
+
+    /**
+     * Returns generic types of interfaces directly implemented by received class.
+     *
+     * @param clazz <code>Class</code> to get generic interfaces for.
+     * @return shared array with generic interfaces in declaration order.
+     * @see Class#getGenericInterfaces()
+     */
+    public static Type[] getGenericInterfaces(Class<?> clazz) {
+        return CLASS_METADATA.get(clazz).genericInterfaces;
+    }
+
+    /**
+     * Returns generic type of direct superclass of received class.
+     *
+     * @param clazz <code>Class</code> to get generic superclass for.
+     * @return generic superclass or <code>null</code> if received class represents <code>Object</code>, interface,
+     * primitive type or void.
+     * @see Class#getGenericSuperclass()
+     */
+    public static Type getGenericSuperclass(Class<?> clazz) {
+        return CLASS_METADATA.get(clazz).genericSuperclass;
+    }
+
+    /**
+     * Returns interfaces directly implemented by received class.
+     *
+     * @param clazz <code>Class</code> to get interfaces for.
+     * @return shared array with interfaces in declaration order.
+     * @see Class#getInterfaces()
+     */
+    public static Class<?>[] getInterfaces(Class<?> clazz) {
+        return CLASS_METADATA.get(clazz).interfaces;
+    }
+
+    /**
+     * Returns type variables declared by received class.
+     *
+     * @param clazz <code>Class</code> to get type variables for.
+     * @return shared array with type variables in declaration order.
+     * @see Class#getTypeParameters()
+     */
+    public static TypeVariable<? extends Class<?>>[] getTypeParameters(Class<?> clazz) {
+        return CLASS_METADATA.get(clazz).typeParameters;
+    }
+
+    private static final class ClassMetadata {
+
+        private final Type[] genericInterfaces;
+        private final Type genericSuperclass;
+        private final Class<?>[] interfaces;
+        private final TypeVariable<? extends Class<?>>[] typeParameters;
+
+        private ClassMetadata(Class<?> clazz) {
+            this.genericInterfaces = clazz.getGenericInterfaces();
+            this.genericSuperclass = clazz.getGenericSuperclass();
+            this.interfaces = clazz.getInterfaces();
+            this.typeParameters = clazz.getTypeParameters();
+        }
+    }
+}
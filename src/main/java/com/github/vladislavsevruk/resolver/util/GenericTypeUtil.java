@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+
+/**
+ * Utility methods for inspecting generic <code>Type</code> declarations.
+ */
+public final class GenericTypeUtil {
+
+    private GenericTypeUtil() {
+    }
+
+    /**
+     * Checks if received type is closed, i.e. neither it nor any of its parameters, bounds or component types refer
+     * to a type variable. Raw usages of generic classes aren't closed as their type variables are resolved using
+     * declaring class mappings. Actual value of closed type doesn't depend on class it was declared at.
+     *
+     * @param type <code>Type</code> to check.
+     * @return <code>true</code> if received type doesn't contain type variables, <code>false</code> otherwise.
+     */
+    public static boolean isClosedType(Type type) {
+        if (type instanceof Class) {
+            return isClosedClass((Class<?>) type);
+        }
+        if (type instanceof ParameterizedType) {
+            // owner type doesn't affect resolved value
+            return areClosedTypes(((ParameterizedType) type).getActualTypeArguments());
+        }
+        if (type instanceof GenericArrayType) {
+            return isClosedType(((GenericArrayType) type).getGenericComponentType());
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            return areClosedTypes(wildcardType.getUpperBounds()) && areClosedTypes(wildcardType.getLowerBounds());
+        }
+        // type variables and unknown type implementations require type variable hierarchy
+        return false;
+    }
+
+    private static boolean areClosedTypes(Type[] types) {
+        for (Type type : types) {
+            if (!isClosedType(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isClosedClass(Class<?> clazz) {
+        Class<?> componentType = clazz;
+        while (componentType.isArray()) {
+            componentType = componentType.getComponentType();
+        }
+        return componentType.isPrimitive() || ClassMetadataUtil.getTypeParameters(componentType).length == 0;
+    }
+}
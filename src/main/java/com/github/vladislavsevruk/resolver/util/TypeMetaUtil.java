@@ -45,6 +45,10 @@ public final class TypeMetaUtil {
      * types, <code>false</code> otherwise.
      */
     public static boolean isSameTypes(TypeMeta<?> acceptorParameterTypeMeta, TypeMeta<?> donorReturnTypeMeta) {
+        if (acceptorParameterTypeMeta == donorReturnTypeMeta) {
+            // interned type metas
+            return true;
+        }
         if (!PrimitiveWrapperUtil.wrap(acceptorParameterTypeMeta.getType())
                 .equals(PrimitiveWrapperUtil.wrap(donorReturnTypeMeta.getType()))) {
             return false;
@@ -62,7 +66,8 @@ public final class TypeMetaUtil {
      * types, <code>false</code> otherwise.
      */
     public static boolean isTypesMatch(TypeMeta<?> acceptorParameterTypeMeta, TypeMeta<?> donorReturnTypeMeta) {
-        if (TypeMeta.OBJECT_META.equals(acceptorParameterTypeMeta)) {
+        if (acceptorParameterTypeMeta == donorReturnTypeMeta || TypeMeta.OBJECT_META
+                .equals(acceptorParameterTypeMeta)) {
             return true;
         }
         if (!PrimitiveWrapperUtil.wrap(acceptorParameterTypeMeta.getType())
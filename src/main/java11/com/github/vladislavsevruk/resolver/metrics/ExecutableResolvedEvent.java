@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event emitted when actual types of executable signature are resolved.
+ */
+@Name("com.github.vladislavsevruk.resolver.ExecutableResolved")
+@Label("Executable Resolved")
+@Category("Type Resolver")
+@Description("Actual types of executable signature were resolved.")
+final class ExecutableResolvedEvent extends Event {
+
+    @Label("Type")
+    @Description("Name of class type was resolved for.")
+    String typeName;
+    @Label("Depth")
+    @Description("Nesting depth of generic types of resolved type.")
+    int depth;
+    @Label("Executable")
+    String executable;
+    @Label("Cache Hit")
+    @Description("Whether resolved signature was taken from cache.")
+    boolean cacheHit;
+    @Label("Resolving Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long resolvingDuration;
+}
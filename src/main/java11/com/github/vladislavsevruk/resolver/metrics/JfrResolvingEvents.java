@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import jdk.jfr.EventType;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+
+/**
+ * Creates and commits Java Flight Recorder events for type resolving. Isolates references to <code>jdk.jfr</code>
+ * module that may be absent at runtime image.
+ *
+ * @see ResolvingEvents
+ */
+final class JfrResolvingEvents {
+
+    private static final EventType EXECUTABLE_RESOLVED = EventType.getEventType(ExecutableResolvedEvent.class);
+    private static final EventType FIELD_RESOLVED = EventType.getEventType(FieldResolvedEvent.class);
+    private static final EventType HIERARCHY_BUILT = EventType.getEventType(HierarchyBuiltEvent.class);
+
+    private JfrResolvingEvents() {
+    }
+
+    static void executableResolved(TypeMeta<?> typeMeta, Executable executable, boolean cacheHit,
+            long durationNanos) {
+        ExecutableResolvedEvent event = new ExecutableResolvedEvent();
+        event.typeName = typeMeta.getType().getName();
+        event.depth = getDepth(typeMeta);
+        event.executable = executable.toString();
+        event.cacheHit = cacheHit;
+        event.resolvingDuration = durationNanos;
+        event.commit();
+    }
+
+    static void fieldResolved(TypeMeta<?> typeMeta, Field field, boolean cacheHit, long durationNanos) {
+        FieldResolvedEvent event = new FieldResolvedEvent();
+        event.typeName = typeMeta.getType().getName();
+        event.depth = getDepth(typeMeta);
+        event.field = field.getDeclaringClass().getName() + '.' + field.getName();
+        event.cacheHit = cacheHit;
+        event.resolvingDuration = durationNanos;
+        event.commit();
+    }
+
+    static void hierarchyBuilt(TypeMeta<?> typeMeta, long durationNanos) {
+        HierarchyBuiltEvent event = new HierarchyBuiltEvent();
+        event.typeName = typeMeta.getType().getName();
+        event.depth = getDepth(typeMeta);
+        event.resolvingDuration = durationNanos;
+        event.commit();
+    }
+
+    static boolean isExecutableResolvedEnabled() {
+        return EXECUTABLE_RESOLVED.isEnabled();
+    }
+
+    static boolean isFieldResolvedEnabled() {
+        return FIELD_RESOLVED.isEnabled();
+    }
+
+    static boolean isHierarchyBuiltEnabled() {
+        return HIERARCHY_BUILT.isEnabled();
+    }
+
+    private static int getDepth(TypeMeta<?> typeMeta) {
+        int depth = 0;
+        for (TypeMeta<?> genericType : typeMeta.getGenericTypes()) {
+            depth = Math.max(depth, getDepth(genericType) + 1);
+        }
+        return depth;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BoundedCacheTest {
+
+    @Test
+    void clearTest() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        cache.computeIfAbsent("key", String::length);
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertNull(cache.get("key"));
+    }
+
+    @Test
+    void computeIfAbsentCachesValueTest() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        AtomicInteger computations = new AtomicInteger();
+        cache.computeIfAbsent("key", key -> computations.incrementAndGet());
+        Integer result = cache.computeIfAbsent("key", key -> computations.incrementAndGet());
+        Assertions.assertEquals(1, result);
+        Assertions.assertEquals(1, computations.get());
+    }
+
+    @Test
+    void concurrentEvictionTest() throws Exception {
+        for (EvictionPolicy evictionPolicy : EvictionPolicy.values()) {
+            BoundedCache<Integer, Integer> cache = new BoundedCache<>(2048, evictionPolicy);
+            int readersNumber = 7;
+            AtomicInteger keys = new AtomicInteger();
+            AtomicBoolean writerFinished = new AtomicBoolean();
+            Callable<Void> writer = () -> {
+                try {
+                    for (int i = 0; i < 200000; ++i) {
+                        cache.computeIfAbsent(keys.incrementAndGet(), Integer::valueOf);
+                    }
+                } finally {
+                    writerFinished.set(true);
+                }
+                return null;
+            };
+            Callable<Void> reader = () -> {
+                Random random = new Random();
+                // hits change access statistics of random entries while writer sorts entries for eviction
+                while (!writerFinished.get()) {
+                    cache.get(keys.get() - random.nextInt(2048));
+                }
+                return null;
+            };
+            ExecutorService executorService = Executors.newFixedThreadPool(readersNumber + 1);
+            try {
+                List<Future<Void>> futures = new ArrayList<>(readersNumber + 1);
+                for (int i = 0; i < readersNumber; ++i) {
+                    futures.add(executorService.submit(reader));
+                }
+                futures.add(executorService.submit(writer));
+                for (Future<Void> future : futures) {
+                    Assertions.assertNull(future.get());
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+            Assertions.assertTrue(cache.getStatistics().getEvictionCount() > 0);
+        }
+    }
+
+    @Test
+    void entryRequestedAfterInsertionIsMoreRecentTest() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+        cache.computeIfAbsent("first", String::length);
+        cache.computeIfAbsent("second", String::length);
+        cache.get("first");
+        cache.computeIfAbsent("third", String::length);
+        Assertions.assertEquals(5, cache.get("first"));
+        Assertions.assertNull(cache.get("second"));
+        Assertions.assertEquals(5, cache.get("third"));
+    }
+
+    @Test
+    void evictionTest() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(10);
+        for (int i = 0; i < 10; ++i) {
+            cache.computeIfAbsent(i, Integer::valueOf);
+        }
+        // recently used entry should survive eviction
+        cache.get(0);
+        cache.computeIfAbsent(10, Integer::valueOf);
+        Assertions.assertTrue(cache.size() <= 10);
+        Assertions.assertEquals(0, cache.get(0));
+        Assertions.assertNull(cache.get(1));
+        Assertions.assertEquals(2, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    void lfuEvictionTest() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(10, EvictionPolicy.LFU);
+        for (int i = 0; i < 10; ++i) {
+            cache.computeIfAbsent(i, Integer::valueOf);
+            // every entry except first one is requested several times
+            if (i != 0) {
+                cache.get(i);
+            }
+        }
+        cache.computeIfAbsent(10, Integer::valueOf);
+        Assertions.assertEquals(EvictionPolicy.LFU, cache.getEvictionPolicy());
+        Assertions.assertNull(cache.get(0));
+        Assertions.assertEquals(1, cache.get(1));
+    }
+
+    @Test
+    void nonPositiveMaximumSizeTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0));
+    }
+
+    @Test
+    void nullEvictionPolicyTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(1, null));
+    }
+
+    @Test
+    void nullValueIsNotCachedTest() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        Assertions.assertNull(cache.computeIfAbsent("key", key -> null));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void statisticsTest() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        cache.computeIfAbsent("key", String::length);
+        cache.computeIfAbsent("key", String::length);
+        cache.computeIfAbsent("key", String::length);
+        CacheStatistics statistics = cache.getStatistics();
+        Assertions.assertEquals(2, statistics.getHitCount());
+        Assertions.assertEquals(1, statistics.getMissCount());
+        Assertions.assertEquals(0, statistics.getEvictionCount());
+        Assertions.assertEquals(1, statistics.getSize());
+        Assertions.assertEquals(10, statistics.getMaximumSize());
+        Assertions.assertEquals(2.0 / 3, statistics.getHitRatio());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class WeakKeyCacheTest {
+
+    @Test
+    void clearTest() {
+        WeakKeyCache<String, Integer> cache = new WeakKeyCache<>();
+        cache.computeIfAbsent("key", String::length);
+        cache.clear();
+        Assertions.assertNull(cache.get("key"));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void collectedKeyEntryIsRemovedTest() throws InterruptedException {
+        WeakKeyCache<Object, Integer> cache = new WeakKeyCache<>();
+        cache.computeIfAbsent(new Object(), key -> 1);
+        for (int i = 0; i < 20 && cache.size() != 0; ++i) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void computeIfAbsentComputesOnceTest() {
+        WeakKeyCache<String, Integer> cache = new WeakKeyCache<>();
+        AtomicInteger computations = new AtomicInteger();
+        String key = "key";
+        Integer value1 = cache.computeIfAbsent(key, k -> computations.incrementAndGet());
+        Integer value2 = cache.computeIfAbsent(key, k -> computations.incrementAndGet());
+        Assertions.assertEquals(1, computations.get());
+        Assertions.assertSame(value1, value2);
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    void equalKeysShareValueTest() {
+        WeakKeyCache<String, Object> cache = new WeakKeyCache<>();
+        Object value = cache.computeIfAbsent(new String("key"), k -> new Object());
+        Assertions.assertSame(value, cache.get(new String("key")));
+    }
+
+    @Test
+    void nullValueIsNotCachedTest() {
+        WeakKeyCache<String, Integer> cache = new WeakKeyCache<>();
+        Assertions.assertNull(cache.computeIfAbsent("key", k -> null));
+        Assertions.assertNull(cache.get("key"));
+        Assertions.assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.context;
+
+/**
+ * Gives tests from other packages access to resolving context state that is shared between test classes.
+ */
+public final class ResolvingContextTestUtil {
+
+    private ResolvingContextTestUtil() {
+    }
+
+    /**
+     * Returns <code>true</code> if resolving context is refreshed after updates at resolving modules,
+     * <code>false</code> otherwise.
+     */
+    public static boolean isAutoRefreshContext() {
+        return TypeMetaResolvingContextManager.isAutoRefreshContext();
+    }
+
+    /**
+     * Restores default resolving modules and refreshes context. Auto refresh state is kept.
+     */
+    public static void resetModulesAndContext() {
+        boolean autoRefreshContext = isAutoRefreshContext();
+        TypeMetaResolvingContextManager.disableContextAutoRefresh();
+        TypeMetaResolvingModuleFactory.replaceMappedVariableHierarchyStorage(null);
+        TypeMetaResolvingModuleFactory.replaceTypeResolverPicker(null);
+        TypeMetaResolvingModuleFactory.replaceTypeResolverStorage(null);
+        TypeMetaResolvingModuleFactory.replaceTypeVariableMapper(null);
+        TypeMetaResolvingModuleFactory.replaceFieldTypeCache(null);
+        TypeMetaResolvingModuleFactory.replaceResolutionPlanStorage(null);
+        TypeMetaResolvingModuleFactory.replaceResolvingMetrics(null);
+        TypeMetaResolvingContextManager.refreshContext();
+        setAutoRefreshContext(autoRefreshContext);
+    }
+
+    /**
+     * Enables or disables resolving context refresh after updates at resolving modules.
+     *
+     * @param autoRefreshContext <code>true</code> if context should be refreshed after updates at resolving modules,
+     *                           <code>false</code> otherwise.
+     */
+    public static void setAutoRefreshContext(boolean autoRefreshContext) {
+        if (autoRefreshContext) {
+            TypeMetaResolvingContextManager.enableContextAutoRefresh();
+        } else {
+            TypeMetaResolvingContextManager.disableContextAutoRefresh();
+        }
+    }
+}
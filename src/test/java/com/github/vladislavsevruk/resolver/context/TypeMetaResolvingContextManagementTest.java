@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.context;
+
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolvingMetrics;
+import com.github.vladislavsevruk.resolver.metrics.NoOpResolvingMetrics;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.storage.TypeMetaBoundedMappedVariableHierarchyStorage;
+import com.github.vladislavsevruk.resolver.type.storage.TypeMetaMappedVariableHierarchyStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.Map;
+
+class TypeMetaResolvingContextManagementTest {
+
+    private TypeMetaResolvingContextManagerMXBean management = new TypeMetaResolvingContextManagement();
+    private MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+    @BeforeEach
+    void enableContextAutoRefresh() {
+        TypeMetaResolvingContextManager.enableContextAutoRefresh();
+    }
+
+    @AfterEach
+    void resetModules() {
+        TypeMetaResolvingModuleFactory.replaceMappedVariableHierarchyStorage(null);
+        TypeMetaResolvingModuleFactory.replaceResolvingMetrics(null);
+    }
+
+    @Test
+    void boundedStorageStatisticsTest() {
+        TypeMetaResolvingModuleFactory
+                .replaceMappedVariableHierarchyStorage(TypeMetaBoundedMappedVariableHierarchyStorage::new);
+        TypeMeta<?> typeMeta = new TypeMeta<>(Long.class);
+        TypeMetaResolvingContextManager.getContext().getMappedVariableHierarchyStorage().get(typeMeta);
+        TypeMetaResolvingContextManager.getContext().getMappedVariableHierarchyStorage().get(typeMeta);
+        Assertions.assertEquals(1, management.getHierarchyStorageSize());
+        Assertions.assertEquals(0.5, management.getHierarchyCacheHitRatio());
+        Assertions.assertEquals(0L, management.getHierarchyCacheEvictionCount());
+    }
+
+    @Test
+    void clearCachesTest() {
+        TypeMeta<?> typeMeta = new TypeMeta<>(Long.class);
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = TypeMetaResolvingContextManager.getContext()
+                .getMappedVariableHierarchyStorage().get(typeMeta);
+        management.clearCaches();
+        Assertions.assertTrue(TypeMetaResolvingContextManager.getLastRefreshReport().getKeptModules().isEmpty());
+        Assertions.assertNotSame(hierarchy,
+                TypeMetaResolvingContextManager.getContext().getMappedVariableHierarchyStorage().get(typeMeta));
+    }
+
+    @Test
+    void getModulesTest() {
+        Map<String, String> modules = management.getModules();
+        Assertions.assertEquals(ResolvingModuleType.values().length, modules.size());
+        Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class.getName(),
+                modules.get(ResolvingModuleType.MAPPED_VARIABLE_HIERARCHY_STORAGE.name()));
+        Assertions.assertEquals(NoOpResolvingMetrics.class.getName(),
+                modules.get(ResolvingModuleType.RESOLVING_METRICS.name()));
+    }
+
+    @Test
+    void metricsStatisticsTest() {
+        InMemoryResolvingMetrics resolvingMetrics = new InMemoryResolvingMetrics();
+        TypeMetaResolvingModuleFactory.replaceResolvingMetrics(context -> resolvingMetrics);
+        // hierarchies are kept on metrics replacement so type meta that isn't used by other tests is required
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class, new TypeMeta<?>[]{
+                new TypeMeta<>(TypeMetaResolvingContextManagementTest.class), new TypeMeta<>(Byte.class) });
+        TypeMetaResolvingContextManager.getContext().getMappedVariableHierarchyStorage().get(typeMeta);
+        TypeMetaResolvingContextManager.getContext().getMappedVariableHierarchyStorage().get(typeMeta);
+        Assertions.assertEquals(0.5, management.getHierarchyCacheHitRatio());
+        Assertions.assertTrue(management.getHierarchyStorageSize() > 0);
+        String[] slowestTypes = management.getSlowestRecentlyResolvedTypes();
+        Assertions.assertEquals(1, slowestTypes.length);
+        Assertions.assertTrue(slowestTypes[0].startsWith(typeMeta.toString()));
+    }
+
+    @Test
+    void proxyTest() throws Exception {
+        TypeMetaResolvingContextManagement.register(server);
+        ObjectName objectName = new ObjectName(TypeMetaResolvingContextManagement.OBJECT_NAME);
+        Assertions.assertTrue(server.isRegistered(objectName));
+        TypeMetaResolvingContextManagerMXBean proxy = JMX
+                .newMXBeanProxy(server, objectName, TypeMetaResolvingContextManagerMXBean.class);
+        Assertions.assertEquals(management.getModules(), proxy.getModules());
+        proxy.refreshContext();
+        Assertions.assertTrue(TypeMetaResolvingContextManager.getLastRefreshReport().getReplacedModules().isEmpty());
+        TypeMetaResolvingContextManagement.unregister(server);
+        Assertions.assertFalse(server.isRegistered(objectName));
+    }
+
+    @Test
+    void registerTwiceTest() {
+        TypeMetaResolvingContextManagement.register(server);
+        Assertions.assertThrows(IllegalStateException.class, () -> TypeMetaResolvingContextManagement.register(server));
+        TypeMetaResolvingContextManagement.unregister(server);
+    }
+
+    @Test
+    void statisticsAreUnavailableWithDefaultModulesTest() {
+        Assertions.assertEquals(-1, management.getHierarchyStorageSize());
+        Assertions.assertEquals(-1.0, management.getHierarchyCacheHitRatio());
+        Assertions.assertEquals(0L, management.getHierarchyCacheEvictionCount());
+        Assertions.assertEquals(0, management.getSlowestRecentlyResolvedTypes().length);
+    }
+
+    @Test
+    void unregisterNotRegisteredTest() {
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> TypeMetaResolvingContextManagement.unregister(server));
+    }
+}
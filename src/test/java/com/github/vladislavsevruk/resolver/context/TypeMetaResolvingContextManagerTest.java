@@ -23,12 +23,22 @@
  */
 package com.github.vladislavsevruk.resolver.context;
 
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolvingMetrics;
+import com.github.vladislavsevruk.resolver.metrics.NoOpResolvingMetrics;
+import com.github.vladislavsevruk.resolver.resolver.field.cache.BaseFieldTypeCache;
+import com.github.vladislavsevruk.resolver.resolver.field.cache.FieldTypeCache;
+import com.github.vladislavsevruk.resolver.resolver.field.cache.TypeMetaFieldTypeCache;
+import com.github.vladislavsevruk.resolver.resolver.picker.TypeMetaResolverPicker;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.plan.ResolutionPlanStorage;
+import com.github.vladislavsevruk.resolver.resolver.plan.TypeMetaResolutionPlanStorage;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeMetaResolverStorage;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
+import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.mapper.TypeMetaVariableMapper;
 import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
+import com.github.vladislavsevruk.resolver.type.storage.BaseMappedVariableHierarchyStorage;
 import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
 import com.github.vladislavsevruk.resolver.type.storage.TypeMetaMappedVariableHierarchyStorage;
 import org.junit.jupiter.api.AfterAll;
@@ -38,12 +48,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+
 @ExtendWith(MockitoExtension.class)
 class TypeMetaResolvingContextManagerTest {
 
+    @Mock
+    private FieldTypeCache<TypeMeta<?>> fieldTypeCache;
     @Mock
     private MappedVariableHierarchyStorage<TypeMeta<?>> mappedVariableHierarchyStorage;
     @Mock
+    private ResolutionPlanStorage<TypeMeta<?>> resolutionPlanStorage;
+    @Mock
     private TypeResolverPicker<TypeMeta<?>> typeResolverPicker;
     @Mock
     private TypeResolverStorage<TypeMeta<?>> typeResolverStorage;
@@ -64,12 +81,63 @@ class TypeMetaResolvingContextManagerTest {
         TypeMetaResolvingModuleFactory.replaceTypeResolverPicker(context -> typeResolverPicker);
         TypeMetaResolvingModuleFactory.replaceTypeResolverStorage(context -> typeResolverStorage);
         TypeMetaResolvingModuleFactory.replaceTypeVariableMapper(context -> typeVariableMapper);
+        TypeMetaResolvingModuleFactory.replaceFieldTypeCache(context -> fieldTypeCache);
+        TypeMetaResolvingModuleFactory.replaceResolutionPlanStorage(context -> resolutionPlanStorage);
         ResolvingContext<TypeMeta<?>> resolvingContext2 = TypeMetaResolvingContextManager.getContext();
         Assertions.assertNotSame(resolvingContext1, resolvingContext2);
         Assertions.assertEquals(mappedVariableHierarchyStorage, resolvingContext2.getMappedVariableHierarchyStorage());
         Assertions.assertEquals(typeResolverPicker, resolvingContext2.getTypeResolverPicker());
         Assertions.assertEquals(typeResolverStorage, resolvingContext2.getTypeResolverStorage());
         Assertions.assertEquals(typeVariableMapper, resolvingContext2.getTypeVariableMapper());
+        Assertions.assertEquals(fieldTypeCache, resolvingContext2.getFieldTypeCache());
+        Assertions.assertEquals(resolutionPlanStorage, resolvingContext2.getResolutionPlanStorage());
+    }
+
+    @Test
+    void autoRefreshContextAfterResolutionPlanStorageUpdatesTest() {
+        resetModulesAndContext();
+        TypeMetaResolvingContextManager.enableContextAutoRefresh();
+        ResolvingContext<TypeMeta<?>> resolvingContext1 = TypeMetaResolvingContextManager.getContext();
+        TypeMetaResolvingModuleFactory.replaceResolutionPlanStorage(context -> resolutionPlanStorage);
+        ResolvingContext<TypeMeta<?>> resolvingContext2 = TypeMetaResolvingContextManager.getContext();
+        Assertions.assertNotSame(resolvingContext1, resolvingContext2);
+        Assertions.assertEquals(TypeMetaResolutionPlanStorage.class,
+                resolvingContext1.getResolutionPlanStorage().getClass());
+        Assertions.assertEquals(resolutionPlanStorage, resolvingContext2.getResolutionPlanStorage());
+        Assertions.assertEquals(TypeMetaFieldTypeCache.class, resolvingContext2.getFieldTypeCache().getClass());
+    }
+
+    @Test
+    void autoRefreshContextAfterResolvingMetricsUpdatesTest() {
+        resetModulesAndContext();
+        TypeMetaResolvingContextManager.enableContextAutoRefresh();
+        ResolvingContext<TypeMeta<?>> resolvingContext1 = TypeMetaResolvingContextManager.getContext();
+        InMemoryResolvingMetrics resolvingMetrics = new InMemoryResolvingMetrics();
+        TypeMetaResolvingModuleFactory.replaceResolvingMetrics(context -> resolvingMetrics);
+        ResolvingContext<TypeMeta<?>> resolvingContext2 = TypeMetaResolvingContextManager.getContext();
+        Assertions.assertNotSame(resolvingContext1, resolvingContext2);
+        Assertions.assertSame(NoOpResolvingMetrics.INSTANCE, resolvingContext1.getResolvingMetrics());
+        Assertions.assertSame(resolvingMetrics, resolvingContext2.getResolvingMetrics());
+        Assertions.assertSame(resolvingContext1.getMappedVariableHierarchyStorage().get(new TypeMeta<>(Long.class)),
+                resolvingContext2.getMappedVariableHierarchyStorage().get(new TypeMeta<>(Long.class)));
+        Assertions.assertEquals(EnumSet.of(ResolvingModuleType.RESOLVING_METRICS),
+                TypeMetaResolvingContextManager.getLastRefreshReport().getReplacedModules());
+    }
+
+    @Test
+    void autoRefreshContextAfterFieldTypeCacheUpdatesTest() {
+        resetModulesAndContext();
+        TypeMetaResolvingContextManager.enableContextAutoRefresh();
+        ResolvingContext<TypeMeta<?>> resolvingContext1 = TypeMetaResolvingContextManager.getContext();
+        TypeMetaResolvingModuleFactory.replaceFieldTypeCache(context -> fieldTypeCache);
+        ResolvingContext<TypeMeta<?>> resolvingContext2 = TypeMetaResolvingContextManager.getContext();
+        Assertions.assertNotSame(resolvingContext1, resolvingContext2);
+        Assertions.assertEquals(TypeMetaFieldTypeCache.class, resolvingContext1.getFieldTypeCache().getClass());
+        Assertions.assertEquals(fieldTypeCache, resolvingContext2.getFieldTypeCache());
+        Assertions.assertNotSame(resolvingContext1.getMappedVariableHierarchyStorage(),
+                resolvingContext2.getMappedVariableHierarchyStorage());
+        Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
+                resolvingContext2.getMappedVariableHierarchyStorage().getClass());
     }
 
     @Test
@@ -156,6 +224,18 @@ class TypeMetaResolvingContextManagerTest {
         Assertions.assertEquals(typeVariableMapper, resolvingContext2.getTypeVariableMapper());
     }
 
+    @Test
+    void dropDependentModulesStateAfterRefreshAfterTypeVariableMapperUpdatesTest() {
+        resetModulesAndContext();
+        TypeMetaResolvingModuleFactory.replaceTypeVariableMapper(context -> typeVariableMapper);
+        TypeMetaResolvingContextManager.refreshContext();
+        ContextRefreshReport report = TypeMetaResolvingContextManager.getLastRefreshReport();
+        Assertions.assertEquals(EnumSet.of(ResolvingModuleType.TYPE_VARIABLE_MAPPER), report.getReplacedModules());
+        Assertions.assertEquals(EnumSet.of(ResolvingModuleType.RESOLUTION_PLAN_STORAGE), report.getKeptModules());
+        Assertions.assertEquals(EnumSet.complementOf(EnumSet.of(ResolvingModuleType.RESOLUTION_PLAN_STORAGE)),
+                report.getDroppedModules());
+    }
+
     @Test
     void equalContextAfterRefreshWithoutUpdatesTest() {
         ResolvingContext<TypeMeta<?>> resolvingContext1 = TypeMetaResolvingContextManager.getContext();
@@ -165,6 +245,64 @@ class TypeMetaResolvingContextManagerTest {
         Assertions.assertEquals(resolvingContext1.getClass(), resolvingContext2.getClass());
     }
 
+    @Test
+    void keepModulesStateAfterRefreshWithoutUpdatesTest() {
+        resetModulesAndContext();
+        TypeMetaResolvingContextManager.refreshContext();
+        ContextRefreshReport report = TypeMetaResolvingContextManager.getLastRefreshReport();
+        Assertions.assertTrue(report.getReplacedModules().isEmpty());
+        Assertions.assertEquals(EnumSet.of(ResolvingModuleType.FIELD_TYPE_CACHE,
+                ResolvingModuleType.MAPPED_VARIABLE_HIERARCHY_STORAGE, ResolvingModuleType.RESOLUTION_PLAN_STORAGE),
+                report.getKeptModules());
+        Assertions.assertEquals(EnumSet.of(ResolvingModuleType.RESOLVING_METRICS,
+                ResolvingModuleType.TYPE_RESOLVER_PICKER, ResolvingModuleType.TYPE_RESOLVER_STORAGE,
+                ResolvingModuleType.TYPE_VARIABLE_MAPPER), report.getDroppedModules());
+    }
+
+    @Test
+    void keepModulesStateAfterRefreshAfterResolvingMetricsUpdatesTest() {
+        resetModulesAndContext();
+        TypeMetaResolvingModuleFactory.replaceResolvingMetrics(context -> new InMemoryResolvingMetrics());
+        TypeMetaResolvingContextManager.refreshContext();
+        ContextRefreshReport report = TypeMetaResolvingContextManager.getLastRefreshReport();
+        Assertions.assertEquals(EnumSet.of(ResolvingModuleType.RESOLVING_METRICS), report.getReplacedModules());
+        Assertions.assertEquals(EnumSet.of(ResolvingModuleType.FIELD_TYPE_CACHE,
+                ResolvingModuleType.MAPPED_VARIABLE_HIERARCHY_STORAGE, ResolvingModuleType.RESOLUTION_PLAN_STORAGE),
+                report.getKeptModules());
+    }
+
+    @Test
+    void dropMappedVariableHierarchyStorageStateAfterRefreshAfterTypeResolverPickerUpdatesTest() {
+        resetModulesAndContext();
+        TypeMeta<?> typeMeta = new TypeMeta<>(ArrayList.class, new TypeMeta<?>[]{ new TypeMeta<>(String.class) });
+        ResolvingContext<TypeMeta<?>> resolvingContext1 = TypeMetaResolvingContextManager.getContext();
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = resolvingContext1.getMappedVariableHierarchyStorage()
+                .get(typeMeta);
+        TypeMetaResolvingModuleFactory.replaceTypeResolverPicker(TypeMetaResolverPicker::new);
+        TypeMetaResolvingContextManager.refreshContext();
+        ResolvingContext<TypeMeta<?>> resolvingContext2 = TypeMetaResolvingContextManager.getContext();
+        MappedVariableHierarchy<TypeMeta<?>> rebuiltHierarchy = resolvingContext2.getMappedVariableHierarchyStorage()
+                .get(typeMeta);
+        Assertions.assertNotSame(hierarchy, rebuiltHierarchy);
+        Assertions.assertEquals(hierarchy, rebuiltHierarchy);
+        ContextRefreshReport report = TypeMetaResolvingContextManager.getLastRefreshReport();
+        Assertions.assertEquals(EnumSet.of(ResolvingModuleType.TYPE_RESOLVER_PICKER), report.getReplacedModules());
+        Assertions.assertTrue(report.getKeptModules().isEmpty());
+        Assertions.assertTrue(
+                report.getDroppedModules().contains(ResolvingModuleType.MAPPED_VARIABLE_HIERARCHY_STORAGE));
+    }
+
+    @Test
+    void dropMappedVariableHierarchyStorageStateAfterRefreshAfterTypeResolverStorageUpdatesTest() {
+        resetModulesAndContext();
+        TypeMetaResolvingModuleFactory.replaceTypeResolverStorage(TypeMetaResolverStorage::new);
+        TypeMetaResolvingContextManager.refreshContext();
+        ContextRefreshReport report = TypeMetaResolvingContextManager.getLastRefreshReport();
+        Assertions.assertEquals(EnumSet.of(ResolvingModuleType.TYPE_RESOLVER_STORAGE), report.getReplacedModules());
+        Assertions.assertTrue(
+                report.getDroppedModules().contains(ResolvingModuleType.MAPPED_VARIABLE_HIERARCHY_STORAGE));
+    }
+
     @Test
     void newContextAfterRefreshAfterAllModulesUpdatesTest() {
         resetModulesAndContext();
@@ -275,6 +413,26 @@ class TypeMetaResolvingContextManagerTest {
                 resolvingContext2.getMappedVariableHierarchyStorage().getClass());
     }
 
+    @Test
+    void recreateModuleSubclassesAfterRefreshTest() {
+        resetModulesAndContext();
+        TypeMetaResolvingModuleFactory
+                .replaceFieldTypeCache(context -> new BaseFieldTypeCache<TypeMeta<?>>(context) {});
+        TypeMetaResolvingModuleFactory.replaceMappedVariableHierarchyStorage(
+                context -> new BaseMappedVariableHierarchyStorage<TypeMeta<?>>(context) {});
+        TypeMetaResolvingContextManager.refreshContext();
+        ResolvingContext<TypeMeta<?>> resolvingContext1 = TypeMetaResolvingContextManager.getContext();
+        TypeMetaResolvingModuleFactory.replaceResolvingMetrics(context -> new InMemoryResolvingMetrics());
+        TypeMetaResolvingContextManager.refreshContext();
+        ResolvingContext<TypeMeta<?>> resolvingContext2 = TypeMetaResolvingContextManager.getContext();
+        Assertions.assertEquals(resolvingContext1.getFieldTypeCache().getClass(),
+                resolvingContext2.getFieldTypeCache().getClass());
+        Assertions.assertEquals(resolvingContext1.getMappedVariableHierarchyStorage().getClass(),
+                resolvingContext2.getMappedVariableHierarchyStorage().getClass());
+        ContextRefreshReport report = TypeMetaResolvingContextManager.getLastRefreshReport();
+        Assertions.assertEquals(EnumSet.of(ResolvingModuleType.RESOLUTION_PLAN_STORAGE), report.getKeptModules());
+    }
+
     @Test
     void sameContextIsReturnedIfAutoRefreshDisabledAfterMappedVariableHierarchyStorageUpdatesTest() {
         resetModulesAndContext();
@@ -341,6 +499,9 @@ class TypeMetaResolvingContextManagerTest {
         TypeMetaResolvingModuleFactory.replaceTypeResolverPicker(null);
         TypeMetaResolvingModuleFactory.replaceTypeResolverStorage(null);
         TypeMetaResolvingModuleFactory.replaceTypeVariableMapper(null);
+        TypeMetaResolvingModuleFactory.replaceFieldTypeCache(null);
+        TypeMetaResolvingModuleFactory.replaceResolutionPlanStorage(null);
+        TypeMetaResolvingModuleFactory.replaceResolvingMetrics(null);
         TypeMetaResolvingContextManager.refreshContext();
     }
 }
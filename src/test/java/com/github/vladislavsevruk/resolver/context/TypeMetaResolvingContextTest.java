@@ -23,8 +23,12 @@
  */
 package com.github.vladislavsevruk.resolver.context;
 
+import com.github.vladislavsevruk.resolver.resolver.field.cache.FieldTypeCache;
+import com.github.vladislavsevruk.resolver.resolver.field.cache.TypeMetaFieldTypeCache;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeMetaResolverPicker;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.plan.ResolutionPlanStorage;
+import com.github.vladislavsevruk.resolver.resolver.plan.TypeMetaResolutionPlanStorage;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeMetaResolverStorage;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
@@ -38,22 +42,68 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.EnumSet;
+
 @ExtendWith(MockitoExtension.class)
 class TypeMetaResolvingContextTest {
 
+    @Mock
+    private FieldTypeCache<TypeMeta<?>> fieldTypeCache;
     @Mock
     private MappedVariableHierarchyStorage<TypeMeta<?>> mappedVariableHierarchyStorage;
     @Mock
+    private ResolutionPlanStorage<TypeMeta<?>> resolutionPlanStorage;
+    @Mock
     private TypeResolverPicker<TypeMeta<?>> typeResolverPicker;
     @Mock
     private TypeResolverStorage<TypeMeta<?>> typeResolverStorage;
     @Mock
     private TypeVariableMapper<TypeMeta<?>> typeVariableMapper;
 
+    @Test
+    void customFieldTypeCacheFactoryMethodReturnsNullTest() {
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withFieldTypeCache(context -> null));
+        Assertions.assertEquals(TypeMetaFieldTypeCache.class, resolvingContext.getFieldTypeCache().getClass());
+    }
+
+    @Test
+    void customResolutionPlanStorageFactoryMethodReturnsNullTest() {
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withResolutionPlanStorage(context -> null));
+        Assertions.assertEquals(TypeMetaResolutionPlanStorage.class,
+                resolvingContext.getResolutionPlanStorage().getClass());
+    }
+
+    @Test
+    void customResolutionPlanStorageTest() {
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withResolutionPlanStorage(context -> resolutionPlanStorage));
+        Assertions.assertEquals(resolutionPlanStorage, resolvingContext.getResolutionPlanStorage());
+        Assertions.assertEquals(TypeMetaFieldTypeCache.class, resolvingContext.getFieldTypeCache().getClass());
+        Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
+                resolvingContext.getMappedVariableHierarchyStorage().getClass());
+        Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
+        Assertions.assertEquals(TypeMetaResolverStorage.class, resolvingContext.getTypeResolverStorage().getClass());
+        Assertions.assertEquals(TypeMetaVariableMapper.class, resolvingContext.getTypeVariableMapper().getClass());
+    }
+
+    @Test
+    void customFieldTypeCacheTest() {
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withFieldTypeCache(context -> fieldTypeCache));
+        Assertions.assertEquals(fieldTypeCache, resolvingContext.getFieldTypeCache());
+        Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
+                resolvingContext.getMappedVariableHierarchyStorage().getClass());
+        Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
+        Assertions.assertEquals(TypeMetaResolverStorage.class, resolvingContext.getTypeResolverStorage().getClass());
+        Assertions.assertEquals(TypeMetaVariableMapper.class, resolvingContext.getTypeVariableMapper().getClass());
+    }
+
     @Test
     void customMappedVariableHierarchyStorageFactoryMethodReturnsNullTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(context -> null, null, null,
-                null);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withMappedVariableHierarchyStorage(context -> null));
         Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
                 resolvingContext.getMappedVariableHierarchyStorage().getClass());
         Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
@@ -63,8 +113,8 @@ class TypeMetaResolvingContextTest {
 
     @Test
     void customMappedVariableHierarchyStorageTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(
-                context -> mappedVariableHierarchyStorage, null, null, null);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(ResolvingModules.DEFAULT
+                .withMappedVariableHierarchyStorage(context -> mappedVariableHierarchyStorage));
         Assertions.assertEquals(mappedVariableHierarchyStorage, resolvingContext.getMappedVariableHierarchyStorage());
         Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
         Assertions.assertEquals(TypeMetaResolverStorage.class, resolvingContext.getTypeResolverStorage().getClass());
@@ -73,8 +123,9 @@ class TypeMetaResolvingContextTest {
 
     @Test
     void customModulesFactoryMethodReturnNullTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(context -> null, context -> null,
-                context -> null, context -> null);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                new ResolvingModules(null, context -> null, null, null, context -> null, context -> null,
+                        context -> null));
         Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
                 resolvingContext.getMappedVariableHierarchyStorage().getClass());
         Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
@@ -84,9 +135,9 @@ class TypeMetaResolvingContextTest {
 
     @Test
     void customModulesTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(
-                context -> mappedVariableHierarchyStorage, context -> typeResolverPicker,
-                context -> typeResolverStorage, context -> typeVariableMapper);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                new ResolvingModules(null, context -> mappedVariableHierarchyStorage, null, null,
+                        context -> typeResolverPicker, context -> typeResolverStorage, context -> typeVariableMapper));
         Assertions.assertEquals(mappedVariableHierarchyStorage, resolvingContext.getMappedVariableHierarchyStorage());
         Assertions.assertEquals(typeResolverPicker, resolvingContext.getTypeResolverPicker());
         Assertions.assertEquals(typeResolverStorage, resolvingContext.getTypeResolverStorage());
@@ -95,8 +146,8 @@ class TypeMetaResolvingContextTest {
 
     @Test
     void customTypeResolverPickerFactoryMethodReturnsNullTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(null, context -> null, null,
-                null);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withTypeResolverPicker(context -> null));
         Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
                 resolvingContext.getMappedVariableHierarchyStorage().getClass());
         Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
@@ -106,8 +157,8 @@ class TypeMetaResolvingContextTest {
 
     @Test
     void customTypeResolverPickerTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(null,
-                context -> typeResolverPicker, null, null);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withTypeResolverPicker(context -> typeResolverPicker));
         Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
                 resolvingContext.getMappedVariableHierarchyStorage().getClass());
         Assertions.assertEquals(typeResolverPicker, resolvingContext.getTypeResolverPicker());
@@ -117,8 +168,8 @@ class TypeMetaResolvingContextTest {
 
     @Test
     void customTypeResolverStorageFactoryMethodReturnsNullTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(null, null, context -> null,
-                null);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withTypeResolverStorage(context -> null));
         Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
                 resolvingContext.getMappedVariableHierarchyStorage().getClass());
         Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
@@ -128,8 +179,8 @@ class TypeMetaResolvingContextTest {
 
     @Test
     void customTypeResolverStorageTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(null, null,
-                context -> typeResolverStorage, null);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withTypeResolverStorage(context -> typeResolverStorage));
         Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
                 resolvingContext.getMappedVariableHierarchyStorage().getClass());
         Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
@@ -139,8 +190,8 @@ class TypeMetaResolvingContextTest {
 
     @Test
     void customTypeVariableMapperFactoryMethodReturnsNullTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(null, null, null,
-                context -> null);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withTypeVariableMapper(context -> null));
         Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
                 resolvingContext.getMappedVariableHierarchyStorage().getClass());
         Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
@@ -150,8 +201,8 @@ class TypeMetaResolvingContextTest {
 
     @Test
     void customTypeVariableMapperTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(null, null, null,
-                context -> typeVariableMapper);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(
+                ResolvingModules.DEFAULT.withTypeVariableMapper(context -> typeVariableMapper));
         Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
                 resolvingContext.getMappedVariableHierarchyStorage().getClass());
         Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
@@ -161,11 +212,18 @@ class TypeMetaResolvingContextTest {
 
     @Test
     void defaultModulesTest() {
-        ResolvingContext<TypeMeta<?>> resolvingContext = new TypeMetaResolvingContext(null, null, null, null);
+        ResolvingContext<TypeMeta<?>> resolvingContext = newContext(ResolvingModules.DEFAULT);
+        Assertions.assertEquals(TypeMetaFieldTypeCache.class, resolvingContext.getFieldTypeCache().getClass());
+        Assertions.assertEquals(TypeMetaResolutionPlanStorage.class,
+                resolvingContext.getResolutionPlanStorage().getClass());
         Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class,
                 resolvingContext.getMappedVariableHierarchyStorage().getClass());
         Assertions.assertEquals(TypeMetaResolverPicker.class, resolvingContext.getTypeResolverPicker().getClass());
         Assertions.assertEquals(TypeMetaResolverStorage.class, resolvingContext.getTypeResolverStorage().getClass());
         Assertions.assertEquals(TypeMetaVariableMapper.class, resolvingContext.getTypeVariableMapper().getClass());
     }
+
+    private ResolvingContext<TypeMeta<?>> newContext(ResolvingModules modules) {
+        return new TypeMetaResolvingContext(modules, null, EnumSet.allOf(ResolvingModuleType.class));
+    }
 }
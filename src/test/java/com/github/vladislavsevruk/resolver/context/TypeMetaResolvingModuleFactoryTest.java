@@ -23,7 +23,10 @@
  */
 package com.github.vladislavsevruk.resolver.context;
 
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetrics;
+import com.github.vladislavsevruk.resolver.resolver.field.cache.FieldTypeCache;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.plan.ResolutionPlanStorage;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
@@ -41,9 +44,15 @@ class TypeMetaResolvingModuleFactoryTest {
 
     private static boolean initialAutoRefreshContext;
 
+    @Mock
+    private FieldTypeCache<TypeMeta<?>> fieldTypeCache;
     @Mock
     private MappedVariableHierarchyStorage<TypeMeta<?>> mappedVariableHierarchyStorage;
     @Mock
+    private ResolutionPlanStorage<TypeMeta<?>> resolutionPlanStorage;
+    @Mock
+    private ResolvingMetrics resolvingMetrics;
+    @Mock
     private TypeResolverPicker<TypeMeta<?>> typeResolverPicker;
     @Mock
     private TypeResolverStorage<TypeMeta<?>> typeResolverStorage;
@@ -65,41 +74,112 @@ class TypeMetaResolvingModuleFactoryTest {
 
     @Test
     void defaultModulesTest() {
+        Assertions.assertNull(TypeMetaResolvingModuleFactory.fieldTypeCache());
         Assertions.assertNull(TypeMetaResolvingModuleFactory.mappedVariableHierarchyStorage());
+        Assertions.assertNull(TypeMetaResolvingModuleFactory.resolutionPlanStorage());
+        Assertions.assertNull(TypeMetaResolvingModuleFactory.resolvingMetrics());
         Assertions.assertNull(TypeMetaResolvingModuleFactory.typeResolverPicker());
         Assertions.assertNull(TypeMetaResolvingModuleFactory.typeResolverStorage());
         Assertions.assertNull(TypeMetaResolvingModuleFactory.typeVariableMapper());
     }
 
+    @Test
+    void replaceModulePublishesNewSnapshotTest() {
+        ResolvingModules initialModules = TypeMetaResolvingModuleFactory.modules();
+        ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverPicker<TypeMeta<?>>> factoryMethod
+                = context -> typeResolverPicker;
+        try {
+            TypeMetaResolvingModuleFactory.replaceTypeResolverPicker(factoryMethod);
+            ResolvingModules modules = TypeMetaResolvingModuleFactory.modules();
+            Assertions.assertNotSame(initialModules, modules);
+            Assertions.assertNull(initialModules.getTypeResolverPicker());
+            Assertions.assertEquals(factoryMethod, modules.getTypeResolverPicker());
+            Assertions.assertEquals(initialModules.withTypeResolverPicker(factoryMethod), modules);
+        } finally {
+            TypeMetaResolvingModuleFactory.replaceTypeResolverPicker(null);
+        }
+    }
+
+    @Test
+    void replaceFieldTypeCacheTest() {
+        ResolvingModuleFactoryMethod<TypeMeta<?>, FieldTypeCache<TypeMeta<?>>> factoryMethod
+                = context -> fieldTypeCache;
+        try {
+            TypeMetaResolvingModuleFactory.replaceFieldTypeCache(factoryMethod);
+            Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.fieldTypeCache());
+        } finally {
+            TypeMetaResolvingModuleFactory.replaceFieldTypeCache(null);
+        }
+    }
+
+    @Test
+    void replaceResolutionPlanStorageTest() {
+        ResolvingModuleFactoryMethod<TypeMeta<?>, ResolutionPlanStorage<TypeMeta<?>>> factoryMethod
+                = context -> resolutionPlanStorage;
+        try {
+            TypeMetaResolvingModuleFactory.replaceResolutionPlanStorage(factoryMethod);
+            Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.resolutionPlanStorage());
+        } finally {
+            TypeMetaResolvingModuleFactory.replaceResolutionPlanStorage(null);
+        }
+    }
+
+    @Test
+    void replaceResolvingMetricsTest() {
+        ResolvingModuleFactoryMethod<TypeMeta<?>, ResolvingMetrics> factoryMethod = context -> resolvingMetrics;
+        try {
+            TypeMetaResolvingModuleFactory.replaceResolvingMetrics(factoryMethod);
+            Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.resolvingMetrics());
+        } finally {
+            TypeMetaResolvingModuleFactory.replaceResolvingMetrics(null);
+        }
+    }
+
     @Test
     void replaceTypeConverterStorageTest() {
         ResolvingModuleFactoryMethod<TypeMeta<?>, MappedVariableHierarchyStorage<TypeMeta<?>>> factoryMethod
                 = context -> mappedVariableHierarchyStorage;
-        TypeMetaResolvingModuleFactory.replaceMappedVariableHierarchyStorage(factoryMethod);
-        Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.mappedVariableHierarchyStorage());
+        try {
+            TypeMetaResolvingModuleFactory.replaceMappedVariableHierarchyStorage(factoryMethod);
+            Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.mappedVariableHierarchyStorage());
+        } finally {
+            TypeMetaResolvingModuleFactory.replaceMappedVariableHierarchyStorage(null);
+        }
     }
 
     @Test
     void replaceTypeResolverPickerTest() {
         ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverPicker<TypeMeta<?>>> factoryMethod
                 = context -> typeResolverPicker;
-        TypeMetaResolvingModuleFactory.replaceTypeResolverPicker(factoryMethod);
-        Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.typeResolverPicker());
+        try {
+            TypeMetaResolvingModuleFactory.replaceTypeResolverPicker(factoryMethod);
+            Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.typeResolverPicker());
+        } finally {
+            TypeMetaResolvingModuleFactory.replaceTypeResolverPicker(null);
+        }
     }
 
     @Test
     void replaceTypeResolverStorageTest() {
         ResolvingModuleFactoryMethod<TypeMeta<?>, TypeResolverStorage<TypeMeta<?>>> factoryMethod
                 = context -> typeResolverStorage;
-        TypeMetaResolvingModuleFactory.replaceTypeResolverStorage(factoryMethod);
-        Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.typeResolverStorage());
+        try {
+            TypeMetaResolvingModuleFactory.replaceTypeResolverStorage(factoryMethod);
+            Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.typeResolverStorage());
+        } finally {
+            TypeMetaResolvingModuleFactory.replaceTypeResolverStorage(null);
+        }
     }
 
     @Test
     void replaceTypeVariableMapperTest() {
         ResolvingModuleFactoryMethod<TypeMeta<?>, TypeVariableMapper<TypeMeta<?>>> factoryMethod
                 = context -> typeVariableMapper;
-        TypeMetaResolvingModuleFactory.replaceTypeVariableMapper(factoryMethod);
-        Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.typeVariableMapper());
+        try {
+            TypeMetaResolvingModuleFactory.replaceTypeVariableMapper(factoryMethod);
+            Assertions.assertEquals(factoryMethod, TypeMetaResolvingModuleFactory.typeVariableMapper());
+        } finally {
+            TypeMetaResolvingModuleFactory.replaceTypeVariableMapper(null);
+        }
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.ResolvingContextTestUtil;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingModuleFactory;
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableTypeMetaResolver;
+import com.github.vladislavsevruk.resolver.resolver.field.FieldTypeMetaResolver;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+class InMemoryResolvingMetricsTest {
+
+    private static final TypeMeta<?> TEST_MODEL_META = new TypeMeta<>(TestModel.class,
+            new TypeMeta<?>[]{ new TypeMeta<>(Integer.class), new TypeMeta<>(Short.class) });
+    private boolean initialAutoRefreshContext;
+    private InMemoryResolvingMetrics resolvingMetrics = new InMemoryResolvingMetrics();
+
+    @BeforeEach
+    void replaceResolvingMetrics() {
+        initialAutoRefreshContext = ResolvingContextTestUtil.isAutoRefreshContext();
+        ResolvingContextTestUtil.resetModulesAndContext();
+        TypeMetaResolvingContextManager.enableContextAutoRefresh();
+        TypeMetaResolvingModuleFactory.replaceResolvingMetrics(context -> resolvingMetrics);
+    }
+
+    @AfterEach
+    void resetResolvingMetrics() {
+        ResolvingContextTestUtil.resetModulesAndContext();
+        ResolvingContextTestUtil.setAutoRefreshContext(initialAutoRefreshContext);
+    }
+
+    @Test
+    void emptySnapshotTest() {
+        ResolvingMetricsSnapshot snapshot = new InMemoryResolvingMetrics().getSnapshot();
+        Assertions.assertEquals(0L, snapshot.getHierarchyCacheHitCount());
+        Assertions.assertEquals(0L, snapshot.getHierarchyCacheMissCount());
+        Assertions.assertEquals(0, snapshot.getHierarchyStorageSize());
+        for (ResolvingEntryPoint entryPoint : ResolvingEntryPoint.values()) {
+            Assertions.assertEquals(0L, snapshot.getResolveCount(entryPoint));
+        }
+    }
+
+    @Test
+    void hierarchyCacheHitsAndMissesAreRecordedTest() {
+        ResolvingContext<TypeMeta<?>> context = TypeMetaResolvingContextManager.getContext();
+        // hierarchies are kept on metrics replacement so type meta that isn't used by other tests is required
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class, new TypeMeta<?>[]{
+                new TypeMeta<>(InMemoryResolvingMetricsTest.class), new TypeMeta<>(Character.class) });
+        context.getMappedVariableHierarchyStorage().get(typeMeta);
+        context.getMappedVariableHierarchyStorage().get(typeMeta);
+        ResolvingMetricsSnapshot snapshot = resolvingMetrics.getSnapshot();
+        Assertions.assertEquals(2L, snapshot.getHierarchyRequestCount());
+        Assertions.assertEquals(1L, snapshot.getHierarchyCacheMissCount());
+        Assertions.assertEquals(1L, snapshot.getHierarchyCacheHitCount());
+        Assertions.assertEquals(1L, snapshot.getTypeVariablesMappingCount());
+        Assertions.assertTrue(snapshot.getHierarchyStorageSize() > 0);
+    }
+
+    @Test
+    void resolvesArePerEntryPointTest() throws NoSuchMethodException, NoSuchFieldException {
+        ResolvingContext<TypeMeta<?>> context = TypeMetaResolvingContextManager.getContext();
+        FieldTypeMetaResolver fieldTypeResolver = new FieldTypeMetaResolver(context);
+        ExecutableTypeMetaResolver executableTypeResolver = new ExecutableTypeMetaResolver(context);
+        Method method = TestModel.class.getMethod("getGenericReturnType");
+        fieldTypeResolver.resolveField(TEST_MODEL_META, TestModel.class.getDeclaredField("genericField"));
+        fieldTypeResolver.resolveFields(TEST_MODEL_META);
+        executableTypeResolver.getReturnType(TEST_MODEL_META, method);
+        executableTypeResolver.getReturnType(TEST_MODEL_META, method);
+        executableTypeResolver.resolveSignature(TEST_MODEL_META, method);
+        ResolvingMetricsSnapshot snapshot = resolvingMetrics.getSnapshot();
+        Assertions.assertEquals(1L, snapshot.getResolveCount(ResolvingEntryPoint.FIELD_TYPE));
+        Assertions.assertEquals(1L, snapshot.getResolveCount(ResolvingEntryPoint.FIELDS));
+        Assertions.assertEquals(2L, snapshot.getResolveCount(ResolvingEntryPoint.RETURN_TYPE));
+        Assertions.assertEquals(1L, snapshot.getResolveCount(ResolvingEntryPoint.SIGNATURE));
+        Assertions.assertEquals(0L, snapshot.getResolveCount(ResolvingEntryPoint.PARAMETER_TYPES));
+    }
+
+    @Test
+    void recentMappingsAreLimitedTest() {
+        InMemoryResolvingMetrics metrics = new InMemoryResolvingMetrics(2);
+        metrics.recordTypeVariablesMapping(new TypeMeta<>(Long.class), 30L);
+        metrics.recordTypeVariablesMapping(new TypeMeta<>(Short.class), 10L);
+        metrics.recordTypeVariablesMapping(new TypeMeta<>(Byte.class), 20L);
+        ResolvingMetricsSnapshot snapshot = metrics.getSnapshot();
+        Assertions.assertEquals(3L, snapshot.getTypeVariablesMappingCount());
+        Assertions.assertEquals(Arrays.asList(new TypeVariablesMapping(new TypeMeta<>(Byte.class).toString(), 20L),
+                new TypeVariablesMapping(new TypeMeta<>(Short.class).toString(), 10L)),
+                snapshot.getSlowestRecentTypeVariablesMappings(3));
+        Assertions.assertEquals(1, snapshot.getSlowestRecentTypeVariablesMappings(1).size());
+    }
+
+    @Test
+    void recentMappingsSizeShouldBePositiveTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new InMemoryResolvingMetrics(0));
+    }
+
+    @Test
+    void typeVariablesMappingTimeIsRecordedTest() {
+        resolvingMetrics.recordTypeVariablesMapping(new TypeMeta<>(Long.class), 10L);
+        resolvingMetrics.recordTypeVariablesMapping(new TypeMeta<>(Short.class), 15L);
+        ResolvingMetricsSnapshot snapshot = resolvingMetrics.getSnapshot();
+        Assertions.assertEquals(2L, snapshot.getTypeVariablesMappingCount());
+        Assertions.assertEquals(25L, snapshot.getTypeVariablesMappingTimeNanos());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.cache.CacheStatistics;
+import com.github.vladislavsevruk.resolver.cache.EvictionPolicy;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+class CachingExecutableTypeMetaResolverTest {
+
+    private CachingExecutableTypeMetaResolver executableTypeResolver = new CachingExecutableTypeMetaResolver();
+
+    @Test
+    void cachedListsAreImmutableTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getSeveralGenericParameterTypes", Object.class, Object.class);
+        List<TypeMeta<?>> result = executableTypeResolver.getParameterTypes(TestModel.class, method);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> result.add(TypeMeta.OBJECT_META));
+    }
+
+    @Test
+    void clearTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getGenericReturnType");
+        executableTypeResolver.getReturnType(TestModel.class, method);
+        executableTypeResolver.clear();
+        Assertions.assertEquals(0, executableTypeResolver.getStatistics().getSize());
+    }
+
+    @Test
+    void evictionTest() throws NoSuchMethodException {
+        CachingExecutableTypeMetaResolver resolver = new CachingExecutableTypeMetaResolver(
+                TypeMetaResolvingContextManager.getContext(), 1, EvictionPolicy.LFU);
+        resolver.getReturnType(TestModel.class, TestModel.class.getMethod("getGenericReturnType"));
+        resolver.getReturnType(TestModel.class, TestModel.class.getMethod("getSimpleReturnType"));
+        CacheStatistics statistics = resolver.getStatistics();
+        Assertions.assertEquals(1, statistics.getSize());
+        Assertions.assertEquals(1, statistics.getEvictionCount());
+    }
+
+    @Test
+    void getExceptionTypesTest() throws NoSuchMethodException {
+        List<TypeMeta<?>> result = executableTypeResolver
+                .getExceptionTypes(TestModel.class, TestModel.class.getMethod("getExceptionType"));
+        Assertions.assertEquals(Collections.singletonList(new TypeMeta<>(ParseException.class)), result);
+    }
+
+    @Test
+    void getParameterTypesTypeProviderTest() throws NoSuchMethodException {
+        TypeProvider<?> typeProvider = new TypeProvider<TestModel<Float, Long>>() {};
+        Method method = TestModel.class
+                .getMethod("getSingleParameterizedParameterTypeSeveralParameterTypes", Map.class);
+        List<TypeMeta<?>> result = executableTypeResolver.getParameterTypes(typeProvider, method);
+        TypeMeta<?> expectedTypeMeta = new TypeMeta<>(Map.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Float.class), new TypeMeta<>(Long.class) });
+        Assertions.assertEquals(Collections.singletonList(expectedTypeMeta), result);
+    }
+
+    @Test
+    void getReturnTypeTypeMetaTest() throws NoSuchMethodException {
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Float.class), new TypeMeta<>(Long.class) });
+        TypeMeta<?> result = executableTypeResolver
+                .getReturnType(typeMeta, TestModel.class.getMethod("getGenericReturnType"));
+        Assertions.assertEquals(new TypeMeta<>(Float.class), result);
+    }
+
+    @Test
+    void resolveExecutablesTypeProviderTest() {
+        TypeProvider<?> typeProvider = new TypeProvider<TestModel<Integer, String>>() {};
+        ResolvedExecutables<TypeMeta<?>> expectedExecutables = new ExecutableTypeMetaResolver()
+                .resolveExecutables(typeProvider);
+        Assertions.assertEquals(expectedExecutables, executableTypeResolver.resolveExecutables(typeProvider));
+    }
+
+    @Test
+    void resolveSignatureIsCachedTest() throws NoSuchMethodException {
+        TypeProvider<?> typeProvider = new TypeProvider<TestModel<Integer, String>>() {};
+        Method method = TestModel.class.getMethod("getSeveralGenericParameterTypes", Object.class, Object.class);
+        ExecutableSignature<TypeMeta<?>> signature = executableTypeResolver.resolveSignature(typeProvider, method);
+        Assertions.assertEquals(new ExecutableTypeMetaResolver().resolveSignature(typeProvider, method), signature);
+        Assertions.assertSame(signature, executableTypeResolver.resolveSignature(typeProvider, method));
+        CacheStatistics statistics = executableTypeResolver.getStatistics();
+        Assertions.assertEquals(1, statistics.getMissCount());
+        Assertions.assertEquals(1, statistics.getHitCount());
+    }
+
+    @Test
+    void signatureIsResolvedOnceTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getSeveralGenericParameterTypes", Object.class, Object.class);
+        TypeProvider<?> typeProvider = new TypeProvider<TestModel<Float, Long>>() {};
+        List<TypeMeta<?>> parameterTypes = executableTypeResolver.getParameterTypes(typeProvider, method);
+        TypeMeta<?> returnType = executableTypeResolver.getReturnType(typeProvider, method);
+        List<TypeMeta<?>> exceptionTypes = executableTypeResolver.getExceptionTypes(typeProvider, method);
+        ExecutableSignature<TypeMeta<?>> signature = executableTypeResolver
+                .getSignature(typeProvider.getTypeMeta(), method);
+        Assertions.assertSame(parameterTypes, signature.getParameterTypes());
+        Assertions.assertSame(exceptionTypes, signature.getExceptionTypes());
+        Assertions.assertEquals(new TypeMeta<>(void.class), returnType);
+        Assertions.assertEquals(Arrays.asList(new TypeMeta<>(Float.class), new TypeMeta<>(Long.class)),
+                parameterTypes);
+        CacheStatistics statistics = executableTypeResolver.getStatistics();
+        Assertions.assertEquals(1, statistics.getMissCount());
+        Assertions.assertEquals(3, statistics.getHitCount());
+    }
+}
@@ -25,12 +25,16 @@ package com.github.vladislavsevruk.resolver.resolver.executable;
 
 import com.github.vladislavsevruk.resolver.exception.TypeResolvingException;
 import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.test.data.TestService;
+import com.github.vladislavsevruk.resolver.test.data.TestStringService;
+import com.github.vladislavsevruk.resolver.test.data.TestStringServiceImpl;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import com.github.vladislavsevruk.resolver.type.WildcardBound;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.text.ParseException;
 import java.util.Arrays;
@@ -1113,4 +1117,166 @@ class ExecutableTypeMetaResolverTest {
         TypeMeta<?> expectedTypeMeta = new TypeMeta<>(Double.class);
         Assertions.assertEquals(expectedTypeMeta, result);
     }
+
+    @Test
+    void resolveExecutablesBridgeMethodsCollapsedTest() throws NoSuchMethodException {
+        ResolvedExecutables<TypeMeta<?>> resolvedExecutables = executableTypeResolver
+                .resolveExecutables(TestStringServiceImpl.class);
+        Method acceptMethod = TestStringServiceImpl.class.getMethod("accept", String.class);
+        Assertions.assertEquals(Collections.singletonList(acceptMethod), resolvedExecutables.getMethods("accept"));
+        Assertions.assertNull(resolvedExecutables.getSignature(TestStringServiceImpl.class.getMethod("accept",
+                Object.class)));
+        Assertions.assertEquals(Collections.singletonList(TestStringServiceImpl.class.getMethod("get")),
+                resolvedExecutables.getMethods("get"));
+        Assertions.assertEquals(2, resolvedExecutables.getConstructors().size());
+        ExecutableSignature<TypeMeta<?>> constructorSignature = resolvedExecutables.getConstructorSignature(1);
+        Assertions.assertEquals(Collections.singletonList(new TypeMeta<>(String.class)),
+                constructorSignature.getParameterTypes());
+    }
+
+    @Test
+    void resolveExecutablesDefaultImplementationTest() {
+        ExecutableTypeResolver<TypeMeta<?>> resolver = new DelegatingExecutableTypeResolver(executableTypeResolver);
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Double.class), new TypeMeta<>(Short.class) });
+        Assertions.assertEquals(executableTypeResolver.resolveExecutables(typeMeta),
+                resolver.resolveExecutables(typeMeta));
+        Assertions.assertEquals(executableTypeResolver.resolveExecutables(TestStringServiceImpl.class),
+                resolver.resolveExecutables(TestStringServiceImpl.class));
+    }
+
+    @Test
+    void resolveExecutablesOverriddenMethodsCollapsedTest() throws NoSuchMethodException {
+        ResolvedExecutables<TypeMeta<?>> resolvedExecutables = executableTypeResolver
+                .resolveExecutables(TestStringService.class);
+        Assertions.assertEquals(2, resolvedExecutables.getMethods().size());
+        Assertions.assertEquals(Collections.singletonList(TestStringService.class.getMethod("get")),
+                resolvedExecutables.getMethods("get"));
+        Method acceptMethod = TestService.class.getMethod("accept", Object.class);
+        ExecutableSignature<TypeMeta<?>> acceptSignature = resolvedExecutables.getMethodSignature(0);
+        Assertions.assertEquals(acceptSignature, resolvedExecutables.getSignature(acceptMethod));
+        Assertions.assertEquals(Collections.singletonList(new TypeMeta<>(String.class)),
+                acceptSignature.getParameterTypes());
+        Assertions.assertTrue(resolvedExecutables.getConstructors().isEmpty());
+    }
+
+    @Test
+    void resolveExecutablesTypeProviderTest() throws NoSuchMethodException {
+        TypeProvider<?> typeProvider = new TypeProvider<TestModel<Double, Short>>() {};
+        ResolvedExecutables<TypeMeta<?>> resolvedExecutables = executableTypeResolver.resolveExecutables(typeProvider);
+        ExecutableSignature<TypeMeta<?>> signature = resolvedExecutables
+                .getSignature(TestModel.class.getMethod("getSeveralGenericParameterTypes", Object.class, Object.class));
+        Assertions.assertEquals(Arrays.asList(new TypeMeta<>(Double.class), new TypeMeta<>(Short.class)),
+                signature.getParameterTypes());
+        for (Method method : resolvedExecutables.getMethods()) {
+            if (Object.class.equals(method.getDeclaringClass())) {
+                continue;
+            }
+            ExecutableSignature<TypeMeta<?>> methodSignature = resolvedExecutables.getSignature(method);
+            Assertions.assertEquals(executableTypeResolver.getParameterTypes(typeProvider, method),
+                    methodSignature.getParameterTypes());
+            Assertions.assertEquals(executableTypeResolver.getReturnType(typeProvider, method),
+                    methodSignature.getReturnType());
+            Assertions.assertEquals(executableTypeResolver.getExceptionTypes(typeProvider, method),
+                    methodSignature.getExceptionTypes());
+        }
+    }
+
+    @Test
+    void resolveSignatureClassTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getGenericReturnType");
+        ExecutableSignature<TypeMeta<?>> signature = executableTypeResolver.resolveSignature(TestModel.class, method);
+        Assertions.assertEquals(Collections.emptyList(), signature.getParameterTypes());
+        Assertions.assertEquals(new TypeMeta<>(Object.class), signature.getReturnType());
+        Assertions.assertEquals(Collections.emptyList(), signature.getExceptionTypes());
+    }
+
+    @Test
+    void resolveSignatureDefaultImplementationTest() throws NoSuchMethodException {
+        ExecutableTypeResolver<TypeMeta<?>> resolver = new DelegatingExecutableTypeResolver(executableTypeResolver);
+        TypeProvider<?> typeProvider = new TypeProvider<TestModel<Double, Short>>() {};
+        Method method = TestModel.class.getMethod("getSeveralGenericParameterTypes", Object.class, Object.class);
+        Assertions.assertEquals(executableTypeResolver.resolveSignature(typeProvider, method),
+                resolver.resolveSignature(typeProvider, method));
+        Assertions.assertEquals(executableTypeResolver.resolveSignature(TestModel.class, method),
+                resolver.resolveSignature(TestModel.class, method));
+    }
+
+    @Test
+    void resolveSignatureMatchesSeparateCallsTest() throws NoSuchMethodException {
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Float.class), new TypeMeta<>(Long.class) });
+        Method method = TestModel.class.getMethod("getSeveralGenericParameterTypes", Object.class, Object.class);
+        ExecutableSignature<TypeMeta<?>> signature = executableTypeResolver.resolveSignature(typeMeta, method);
+        Assertions.assertEquals(executableTypeResolver.getParameterTypes(typeMeta, method),
+                signature.getParameterTypes());
+        Assertions.assertEquals(executableTypeResolver.getReturnType(typeMeta, method), signature.getReturnType());
+        Assertions.assertEquals(executableTypeResolver.getExceptionTypes(typeMeta, method),
+                signature.getExceptionTypes());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> signature.getParameterTypes().clear());
+    }
+
+    @Test
+    void resolveSignatureTypeProviderTest() throws NoSuchMethodException {
+        TypeProvider<?> typeProvider = new TypeProvider<TestModel<Double, Short>>() {};
+        Method method = TestModel.class.getMethod("getSeveralGenericParameterTypes", Object.class, Object.class);
+        ExecutableSignature<TypeMeta<?>> signature = executableTypeResolver.resolveSignature(typeProvider, method);
+        Assertions.assertEquals(Arrays.asList(new TypeMeta<>(Double.class), new TypeMeta<>(Short.class)),
+                signature.getParameterTypes());
+        Assertions.assertEquals(new TypeMeta<>(void.class), signature.getReturnType());
+    }
+
+    private static class DelegatingExecutableTypeResolver implements ExecutableTypeResolver<TypeMeta<?>> {
+
+        private final ExecutableTypeResolver<TypeMeta<?>> delegate;
+
+        private DelegatingExecutableTypeResolver(ExecutableTypeResolver<TypeMeta<?>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<TypeMeta<?>> getExceptionTypes(Class<?> clazz, Executable executable) {
+            return delegate.getExceptionTypes(clazz, executable);
+        }
+
+        @Override
+        public List<TypeMeta<?>> getExceptionTypes(TypeMeta<?> typeMeta, Executable executable) {
+            return delegate.getExceptionTypes(typeMeta, executable);
+        }
+
+        @Override
+        public List<TypeMeta<?>> getExceptionTypes(TypeProvider<?> typeProvider, Executable executable) {
+            return delegate.getExceptionTypes(typeProvider, executable);
+        }
+
+        @Override
+        public List<TypeMeta<?>> getParameterTypes(Class<?> clazz, Executable executable) {
+            return delegate.getParameterTypes(clazz, executable);
+        }
+
+        @Override
+        public List<TypeMeta<?>> getParameterTypes(TypeMeta<?> typeMeta, Executable executable) {
+            return delegate.getParameterTypes(typeMeta, executable);
+        }
+
+        @Override
+        public List<TypeMeta<?>> getParameterTypes(TypeProvider<?> typeProvider, Executable executable) {
+            return delegate.getParameterTypes(typeProvider, executable);
+        }
+
+        @Override
+        public TypeMeta<?> getReturnType(Class<?> clazz, Executable executable) {
+            return delegate.getReturnType(clazz, executable);
+        }
+
+        @Override
+        public TypeMeta<?> getReturnType(TypeMeta<?> typeMeta, Executable executable) {
+            return delegate.getReturnType(typeMeta, executable);
+        }
+
+        @Override
+        public TypeMeta<?> getReturnType(TypeProvider<?> typeProvider, Executable executable) {
+            return delegate.getReturnType(typeProvider, executable);
+        }
+    }
 }
@@ -23,14 +23,24 @@
  */
 package com.github.vladislavsevruk.resolver.resolver.field;
 
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.exception.TypeResolvingException;
+import com.github.vladislavsevruk.resolver.metrics.NoOpResolvingMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingEntryPoint;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingMetrics;
+import com.github.vladislavsevruk.resolver.resolver.plan.TypeMetaResolutionPlanStorage;
 import com.github.vladislavsevruk.resolver.test.data.TestModel;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import com.github.vladislavsevruk.resolver.type.WildcardBound;
+import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import java.lang.reflect.Field;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -66,6 +76,59 @@ class FieldTypeMetaResolverTest {
         Assertions.assertEquals(expectedTypeMeta, result);
     }
 
+    @Test
+    void getCachedFieldTypeTest() throws NoSuchFieldException {
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Long.class), new TypeMeta<>(Short.class) });
+        Field field = TestModel.class.getDeclaredField("genericField");
+        TypeMeta<?> result1 = fieldTypeResolver.resolveField(typeMeta, field);
+        TypeMeta<?> result2 = fieldTypeResolver.resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field);
+        Assertions.assertEquals(new TypeMeta<>(Long.class), result1);
+        Assertions.assertSame(result1, result2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getClosedFieldTypeWithoutHierarchyTest() throws NoSuchFieldException {
+        MappedVariableHierarchyStorage<TypeMeta<?>> storage = Mockito.mock(MappedVariableHierarchyStorage.class);
+        ResolvingContext<TypeMeta<?>> context = Mockito.mock(ResolvingContext.class);
+        Mockito.when(context.getMappedVariableHierarchyStorage()).thenReturn(storage);
+        Mockito.when(context.getResolvingMetrics()).thenReturn(NoOpResolvingMetrics.INSTANCE);
+        Mockito.when(context.getTypeResolverPicker())
+                .thenReturn(TypeMetaResolvingContextManager.getContext().getTypeResolverPicker());
+        Mockito.when(context.getResolutionPlanStorage()).thenReturn(new TypeMetaResolutionPlanStorage(context));
+        FieldTypeMetaResolver resolver = new FieldTypeMetaResolver(context);
+        Field field = TestModel.class.getDeclaredField("parameterizedFieldInnerArray");
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Integer.class), new TypeMeta<>(Boolean.class) });
+        TypeMeta<?> result = resolver.resolveField(typeMeta, field);
+        TypeMeta<?> arrayTypeMeta = new TypeMeta<>(Long[].class, new TypeMeta<?>[]{ new TypeMeta<>(Long.class) });
+        TypeMeta<?> expectedTypeMeta = new TypeMeta<>(List.class, new TypeMeta<?>[]{ arrayTypeMeta });
+        Assertions.assertEquals(expectedTypeMeta, result);
+        Mockito.verifyNoInteractions(storage);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getClosedFieldTypeClassRecordsResolveTest() throws NoSuchFieldException {
+        ResolvingMetrics resolvingMetrics = Mockito.mock(ResolvingMetrics.class);
+        ResolvingContext<TypeMeta<?>> context = Mockito.mock(ResolvingContext.class);
+        Mockito.when(context.getResolvingMetrics()).thenReturn(resolvingMetrics);
+        Mockito.when(context.getTypeResolverPicker())
+                .thenReturn(TypeMetaResolvingContextManager.getContext().getTypeResolverPicker());
+        Mockito.when(context.getResolutionPlanStorage()).thenReturn(new TypeMetaResolutionPlanStorage(context));
+        FieldTypeMetaResolver resolver = new FieldTypeMetaResolver(context);
+        resolver.resolveField(TestModel.class, TestModel.class.getDeclaredField("parameterizedFieldInnerArray"));
+        Mockito.verify(resolvingMetrics).recordResolve(ResolvingEntryPoint.FIELD_TYPE);
+    }
+
+    @Test
+    void getForeignClosedFieldTypeTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("simpleField");
+        Assertions.assertThrows(TypeResolvingException.class,
+                () -> fieldTypeResolver.resolveField(new TypeMeta<>(String.class), field));
+    }
+
     @Test
     void getLowerWildcardFieldTypeClassTest() throws NoSuchFieldException {
         Field field = TestModel.class.getDeclaredField("lowerWildcardField");
@@ -490,4 +553,65 @@ class FieldTypeMetaResolverTest {
         TypeMeta<?> expectedTypeMeta = new TypeMeta<>(Short.class);
         Assertions.assertEquals(expectedTypeMeta, result);
     }
+
+    @Test
+    void resolveFieldsClassTest() {
+        ResolvedFields<TypeMeta<?>> resolvedFields = fieldTypeResolver.resolveFields(TestModel.class);
+        Assertions.assertEquals(new TypeMeta<>(TestModel.class), resolvedFields.getOwnerTypeMeta());
+        Assertions.assertEquals(TypeMeta.OBJECT_META, resolvedFields.getFieldType("genericField"));
+        Assertions.assertNull(resolvedFields.getFieldType("missingField"));
+    }
+
+    @Test
+    void resolveFieldsDefaultImplementationTest() {
+        FieldTypeResolver<TypeMeta<?>> resolver = new FieldTypeResolver<TypeMeta<?>>() {
+            @Override
+            public TypeMeta<?> resolveField(Class<?> clazz, Field field) {
+                return fieldTypeResolver.resolveField(clazz, field);
+            }
+
+            @Override
+            public TypeMeta<?> resolveField(TypeMeta<?> typeMeta, Field field) {
+                return fieldTypeResolver.resolveField(typeMeta, field);
+            }
+
+            @Override
+            public TypeMeta<?> resolveField(TypeProvider<?> typeProvider, Field field) {
+                return fieldTypeResolver.resolveField(typeProvider, field);
+            }
+        };
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Double.class), new TypeMeta<>(Short.class) });
+        Assertions.assertEquals(fieldTypeResolver.resolveFields(typeMeta), resolver.resolveFields(typeMeta));
+        Assertions.assertEquals(fieldTypeResolver.resolveFields(TestModel.class),
+                resolver.resolveFields(TestModel.class));
+    }
+
+    @Test
+    void resolveFieldsMatchesResolveFieldTest() {
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Double.class), new TypeMeta<>(Short.class) });
+        ResolvedFields<TypeMeta<?>> resolvedFields = fieldTypeResolver.resolveFields(typeMeta);
+        Assertions.assertEquals(TestModel.class, resolvedFields.getFields().get(0).getDeclaringClass());
+        for (Field field : resolvedFields.getFields()) {
+            Assertions
+                    .assertEquals(fieldTypeResolver.resolveField(typeMeta, field), resolvedFields.getFieldType(field));
+        }
+    }
+
+    @Test
+    void resolveFieldsTypeProviderTest() throws NoSuchFieldException {
+        TypeProvider<?> typeProvider = new TypeProvider<TestModel<Double, Short>>() {};
+        ResolvedFields<TypeMeta<?>> resolvedFields = fieldTypeResolver.resolveFields(typeProvider);
+        TypeMeta<?> doubleTypeMeta = new TypeMeta<>(Double.class);
+        Assertions.assertEquals(doubleTypeMeta, resolvedFields.getFieldType("genericField"));
+        TypeMeta<?> expectedMapTypeMeta = new TypeMeta<>(Map.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Short.class), doubleTypeMeta });
+        Assertions.assertEquals(expectedMapTypeMeta,
+                resolvedFields.getFieldType("parameterizedFieldSeveralParameters"));
+        Field inheritedField = LinkedList.class.getDeclaredField("first");
+        TypeMeta<?> expectedNodeTypeMeta = new TypeMeta<>(inheritedField.getType(),
+                new TypeMeta<?>[]{ doubleTypeMeta });
+        Assertions.assertEquals(expectedNodeTypeMeta, resolvedFields.getFieldType(inheritedField));
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field.cache;
+
+import com.github.vladislavsevruk.resolver.cache.CacheStatistics;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+class TypeMetaFieldTypeCacheTest {
+
+    private Field field1;
+    private Field field2;
+
+    TypeMetaFieldTypeCacheTest() throws NoSuchFieldException {
+        field1 = TypeMetaFieldTypeCacheTest.class.getDeclaredField("field1");
+        field2 = TypeMetaFieldTypeCacheTest.class.getDeclaredField("field2");
+    }
+
+    @Test
+    void carryOverSharesCachedFieldTypesTest() {
+        TypeMetaFieldTypeCache cache = new TypeMetaFieldTypeCache();
+        TypeMeta<?> expectedTypeMeta = new TypeMeta<>(Long.class);
+        cache.computeIfAbsent(TypeMeta.OBJECT_META, field1, (typeMeta, field) -> expectedTypeMeta);
+        FieldTypeCache<TypeMeta<?>> carriedOverCache = cache.carryOver(null);
+        Assertions.assertEquals(TypeMetaFieldTypeCache.class, carriedOverCache.getClass());
+        TypeMeta<?> result = carriedOverCache
+                .computeIfAbsent(TypeMeta.OBJECT_META, field1, (typeMeta, field) -> TypeMeta.OBJECT_META);
+        Assertions.assertSame(expectedTypeMeta, result);
+    }
+
+    @Test
+    void differentFieldsAreCachedSeparatelyTest() {
+        TypeMetaFieldTypeCache cache = new TypeMetaFieldTypeCache();
+        TypeMeta<?> ownerTypeMeta = new TypeMeta<>(TypeMetaFieldTypeCacheTest.class);
+        cache.computeIfAbsent(ownerTypeMeta, field1, (typeMeta, field) -> new TypeMeta<>(Long.class));
+        TypeMeta<?> result = cache.computeIfAbsent(ownerTypeMeta, field2, (typeMeta, field) -> TypeMeta.OBJECT_META);
+        Assertions.assertSame(TypeMeta.OBJECT_META, result);
+        Assertions.assertEquals(2, cache.getStatistics().getSize());
+    }
+
+    @Test
+    void equalOwnerTypeMetaHitTest() {
+        TypeMetaFieldTypeCache cache = new TypeMetaFieldTypeCache();
+        TypeMeta<?> expectedTypeMeta = new TypeMeta<>(Long.class);
+        cache.computeIfAbsent(new TypeMeta<>(TypeMetaFieldTypeCacheTest.class), field1,
+                (typeMeta, field) -> expectedTypeMeta);
+        TypeMeta<?> result = cache.computeIfAbsent(new TypeMeta<>(TypeMetaFieldTypeCacheTest.class), field1,
+                (typeMeta, field) -> TypeMeta.OBJECT_META);
+        Assertions.assertSame(expectedTypeMeta, result);
+        CacheStatistics statistics = cache.getStatistics();
+        Assertions.assertEquals(1, statistics.getHitCount());
+        Assertions.assertEquals(1, statistics.getMissCount());
+    }
+
+    @Test
+    void clearTest() {
+        TypeMetaFieldTypeCache cache = new TypeMetaFieldTypeCache();
+        cache.computeIfAbsent(TypeMeta.OBJECT_META, field1, (typeMeta, field) -> TypeMeta.OBJECT_META);
+        cache.clear();
+        Assertions.assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    @Test
+    void maximumSizeTest() {
+        TypeMetaFieldTypeCache cache = new TypeMetaFieldTypeCache(null, 1);
+        cache.computeIfAbsent(TypeMeta.OBJECT_META, field1, (typeMeta, field) -> TypeMeta.OBJECT_META);
+        cache.computeIfAbsent(TypeMeta.OBJECT_META, field2, (typeMeta, field) -> TypeMeta.OBJECT_META);
+        CacheStatistics statistics = cache.getStatistics();
+        Assertions.assertEquals(1, statistics.getMaximumSize());
+        Assertions.assertEquals(1, statistics.getEvictionCount());
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.plan;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.resolver.annotated.AnnotatedTypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+class TypeMetaResolutionPlanStorageTest {
+
+    private static final TypeMeta<?> TEST_MODEL_META = new TypeMeta<>(TestModel.class,
+            new TypeMeta<?>[]{ new TypeMeta<>(Integer.class), new TypeMeta<>(Short.class) });
+    private ResolvingContext<TypeMeta<?>> context = TypeMetaResolvingContextManager.getContext();
+    private TypeMetaResolutionPlanStorage genericTypeStorage = new TypeMetaResolutionPlanStorage(context,
+            ResolvingMode.GENERIC_TYPE);
+    private TypeMetaResolutionPlanStorage realStorage = new TypeMetaResolutionPlanStorage(context);
+
+    static Stream<Field> fieldsProvider() {
+        return Arrays.stream(TestModel.class.getDeclaredFields()).filter(field -> !field.isSynthetic());
+    }
+
+    static Stream<Constructor<?>> constructorsProvider() {
+        return Arrays.stream(TestModel.class.getDeclaredConstructors());
+    }
+
+    static Stream<Method> methodsProvider() {
+        return Arrays.stream(TestModel.class.getDeclaredMethods()).filter(method -> !method.isSynthetic());
+    }
+
+    @Test
+    void closedFieldPlanReturnsSameInstanceTest() throws NoSuchFieldException {
+        ResolutionPlan<TypeMeta<?>> plan = realStorage
+                .getFieldPlan(TestModel.class.getDeclaredField("parameterizedFieldInnerArray"));
+        Assertions.assertSame(plan.resolve(new TypeVariableMap<>()), plan.resolve(typeVariableMap()));
+    }
+
+    @Test
+    void closedFieldPlanIsMarkedClosedTest() throws NoSuchFieldException {
+        Assertions.assertTrue(realStorage.getFieldPlan(TestModel.class.getDeclaredField("parameterizedFieldInnerArray"))
+                .isClosed());
+        Assertions.assertTrue(genericTypeStorage.getFieldPlan(TestModel.class.getDeclaredField("simpleField"))
+                .isClosed());
+        Assertions.assertFalse(realStorage.getFieldPlan(TestModel.class.getDeclaredField("genericField")).isClosed());
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void customAnnotatedTypeResolverIsDelegatedTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("genericField");
+        TypeMeta expectedTypeMeta = new TypeMeta<>(Long.class);
+        AnnotatedTypeResolver<TypeMeta<?>> annotatedTypeResolver = Mockito.mock(AnnotatedTypeResolver.class);
+        TypeResolverPicker<TypeMeta<?>> typeResolverPicker = Mockito.mock(TypeResolverPicker.class);
+        ResolvingContext<TypeMeta<?>> mockedContext = Mockito.mock(ResolvingContext.class);
+        Mockito.when(mockedContext.getTypeResolverPicker()).thenReturn(typeResolverPicker);
+        Mockito.when(typeResolverPicker.pickAnnotatedTypeResolver(Mockito.any(AnnotatedType.class)))
+                .thenReturn(annotatedTypeResolver);
+        TypeVariableMap<TypeMeta<?>> typeVariableMap = typeVariableMap();
+        Mockito.when(annotatedTypeResolver.resolve(Mockito.eq(typeVariableMap), Mockito.any(AnnotatedType.class)))
+                .thenReturn(expectedTypeMeta);
+        ResolutionPlan<TypeMeta<?>> plan = new TypeMetaResolutionPlanStorage(mockedContext).getFieldPlan(field);
+        Assertions.assertSame(expectedTypeMeta, plan.resolve(typeVariableMap));
+    }
+
+    @ParameterizedTest
+    @MethodSource("constructorsProvider")
+    void constructorPlanGenericTypeModeMatchesAnnotatedTypeModeTest(Constructor<?> constructor) {
+        assertExecutablePlansEqual(realStorage.getExecutablePlan(constructor),
+                genericTypeStorage.getExecutablePlan(constructor));
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void customAnnotatedTypeResolverIsIgnoredAtGenericTypeModeTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("genericField");
+        TypeResolverPicker<TypeMeta<?>> typeResolverPicker = Mockito.spy(context.getTypeResolverPicker());
+        ResolvingContext<TypeMeta<?>> mockedContext = Mockito.mock(ResolvingContext.class);
+        Mockito.when(mockedContext.getTypeResolverPicker()).thenReturn(typeResolverPicker);
+        ResolutionPlan<TypeMeta<?>> plan = new TypeMetaResolutionPlanStorage(mockedContext,
+                ResolvingMode.GENERIC_TYPE).getFieldPlan(field);
+        Assertions.assertEquals(new TypeMeta<>(Integer.class), plan.resolve(typeVariableMap()));
+        Mockito.verify(typeResolverPicker, Mockito.never()).pickAnnotatedTypeResolver(Mockito.any());
+    }
+
+    @Test
+    void defaultResolvingModeTest() {
+        Assertions.assertEquals(ResolvingMode.ANNOTATED_TYPE, realStorage.getResolvingMode());
+        Assertions.assertEquals(ResolvingMode.GENERIC_TYPE, genericTypeStorage.getResolvingMode());
+        Assertions.assertEquals(ResolvingMode.GENERIC_TYPE,
+                ((AbstractResolutionPlanStorage<?>) genericTypeStorage.carryOver(context)).getResolvingMode());
+    }
+
+    @Test
+    void executablePlanIsStoredTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getGenericReturnType");
+        Assertions.assertSame(realStorage.getExecutablePlan(method), realStorage.getExecutablePlan(method));
+    }
+
+    @ParameterizedTest
+    @MethodSource("methodsProvider")
+    void executablePlanMatchesResolversTest(Method method) {
+        TypeVariableMap<TypeMeta<?>> typeVariableMap = typeVariableMap();
+        ExecutableResolutionPlan<TypeMeta<?>> plan = realStorage.getExecutablePlan(method);
+        Assertions.assertEquals(resolve(typeVariableMap, method.getAnnotatedParameterTypes()),
+                plan.resolveParameterTypes(typeVariableMap));
+        Assertions.assertEquals(resolve(typeVariableMap, method.getAnnotatedReturnType()),
+                plan.resolveReturnType(typeVariableMap));
+        Assertions.assertEquals(resolve(typeVariableMap, method.getAnnotatedExceptionTypes()),
+                plan.resolveExceptionTypes(typeVariableMap));
+    }
+
+    @ParameterizedTest
+    @MethodSource("methodsProvider")
+    void executablePlanGenericTypeModeMatchesAnnotatedTypeModeTest(Method method) {
+        assertExecutablePlansEqual(realStorage.getExecutablePlan(method), genericTypeStorage.getExecutablePlan(method));
+    }
+
+    @Test
+    void executablePlanGenericTypeModeInnerClassConstructorTest() {
+        // generic signature of inner class constructor doesn't contain synthetic enclosing instance parameter
+        Constructor<?> constructor = InnerModel.class.getDeclaredConstructors()[0];
+        TypeVariableMap<TypeMeta<?>> typeVariableMap = new TypeVariableMap<>();
+        List<TypeMeta<?>> parameterTypes = genericTypeStorage.getExecutablePlan(constructor)
+                .resolveParameterTypes(typeVariableMap);
+        Assertions.assertEquals(constructor.getParameterCount(), parameterTypes.size());
+        Assertions.assertEquals(realStorage.getExecutablePlan(constructor).resolveParameterTypes(typeVariableMap),
+                parameterTypes);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fieldsProvider")
+    void fieldPlanGenericTypeModeMatchesAnnotatedTypeModeTest(Field field) {
+        TypeVariableMap<TypeMeta<?>> typeVariableMap = typeVariableMap();
+        Assertions.assertEquals(realStorage.getFieldPlan(field).resolve(typeVariableMap),
+                genericTypeStorage.getFieldPlan(field).resolve(typeVariableMap));
+    }
+
+    @Test
+    void fieldPlanIsStoredTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("genericField");
+        Assertions.assertSame(realStorage.getFieldPlan(field), realStorage.getFieldPlan(field));
+    }
+
+    @ParameterizedTest
+    @MethodSource("fieldsProvider")
+    void fieldPlanMatchesResolversTest(Field field) {
+        TypeVariableMap<TypeMeta<?>> typeVariableMap = typeVariableMap();
+        Assertions.assertEquals(resolve(typeVariableMap, field.getAnnotatedType()),
+                realStorage.getFieldPlan(field).resolve(typeVariableMap));
+        Assertions.assertEquals(resolve(new TypeVariableMap<>(), field.getAnnotatedType()),
+                realStorage.getFieldPlan(field).resolve(new TypeVariableMap<>()));
+    }
+
+    @Test
+    void storedPlansDoNotPreventClassLoaderCollectingTest()
+            throws IOException, InterruptedException, ReflectiveOperationException {
+        WeakReference<ClassLoader> classLoaderReference = compileIsolatedModelPlans();
+        for (int i = 0; i < 20 && classLoaderReference.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Assertions.assertNull(classLoaderReference.get());
+    }
+
+    private void assertExecutablePlansEqual(ExecutableResolutionPlan<TypeMeta<?>> expectedPlan,
+            ExecutableResolutionPlan<TypeMeta<?>> actualPlan) {
+        TypeVariableMap<TypeMeta<?>> typeVariableMap = typeVariableMap();
+        Assertions.assertEquals(expectedPlan.resolveParameterTypes(typeVariableMap),
+                actualPlan.resolveParameterTypes(typeVariableMap));
+        Assertions.assertEquals(expectedPlan.resolveReturnType(typeVariableMap),
+                actualPlan.resolveReturnType(typeVariableMap));
+        Assertions.assertEquals(expectedPlan.resolveExceptionTypes(typeVariableMap),
+                actualPlan.resolveExceptionTypes(typeVariableMap));
+    }
+
+    private WeakReference<ClassLoader> compileIsolatedModelPlans() throws IOException, ReflectiveOperationException {
+        IsolatedClassLoader classLoader = new IsolatedClassLoader();
+        Class<?> isolatedClass = classLoader.defineClass(IsolatedModel.class);
+        Assertions.assertNotNull(realStorage.getFieldPlan(isolatedClass.getDeclaredField("items"))
+                .resolve(new TypeVariableMap<>()));
+        Assertions.assertNotNull(realStorage.getExecutablePlan(isolatedClass.getDeclaredMethod("getItems"))
+                .resolveReturnType(new TypeVariableMap<>()));
+        return new WeakReference<>(classLoader);
+    }
+
+    private TypeMeta<?> resolve(TypeVariableMap<TypeMeta<?>> typeVariableMap, AnnotatedType annotatedType) {
+        return context.getTypeResolverPicker().pickAnnotatedTypeResolver(annotatedType)
+                .resolve(typeVariableMap, annotatedType);
+    }
+
+    private List<TypeMeta<?>> resolve(TypeVariableMap<TypeMeta<?>> typeVariableMap, AnnotatedType[] annotatedTypes) {
+        List<TypeMeta<?>> resolvedTypes = new ArrayList<>();
+        for (AnnotatedType annotatedType : annotatedTypes) {
+            resolvedTypes.add(resolve(typeVariableMap, annotatedType));
+        }
+        return resolvedTypes;
+    }
+
+    private TypeVariableMap<TypeMeta<?>> typeVariableMap() {
+        return context.getMappedVariableHierarchyStorage().get(TEST_MODEL_META).getTypeVariableMap(TestModel.class);
+    }
+
+    @SuppressWarnings("unused")
+    public static class IsolatedModel<U> {
+
+        public List<U> items;
+
+        public List<U> getItems() {
+            return items;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private class InnerModel<U> {
+
+        InnerModel(U value, List<U> values) {
+        }
+    }
+
+    private static class IsolatedClassLoader extends ClassLoader {
+
+        private IsolatedClassLoader() {
+            super(IsolatedClassLoader.class.getClassLoader());
+        }
+
+        private Class<?> defineClass(Class<?> clazz) throws IOException {
+            String resourceName = clazz.getName().replace('.', '/') + ".class";
+            try (InputStream inputStream = getParent().getResourceAsStream(resourceName);
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+                byte[] buffer = new byte[4096];
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, length);
+                }
+                byte[] bytes = outputStream.toByteArray();
+                return defineClass(clazz.getName(), bytes, 0, bytes.length);
+            }
+        }
+    }
+}
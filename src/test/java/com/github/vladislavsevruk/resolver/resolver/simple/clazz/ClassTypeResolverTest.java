@@ -56,6 +56,14 @@ class ClassTypeResolverTest {
         Assertions.assertEquals(expectedValue, realClassTypeResolver.canResolve(type));
     }
 
+    @Test
+    void resolveNonGenericClassReturnsSameInstanceTest() {
+        TypeMeta<?> result1 = realClassTypeResolver.resolve(new TypeVariableMap<>(), String.class);
+        TypeMeta<?> result2 = realClassTypeResolver.resolve(new TypeVariableMap<>(), String.class);
+        Assertions.assertEquals(new TypeMeta<>(String.class), result1);
+        Assertions.assertSame(result1, result2);
+    }
+
     @Test
     void resolveArrayTypeRealContextTest() {
         TypeVariableMap<TypeMeta<?>> typeVariableMap = Mockito.mock(TypeVariableMap.class);
@@ -26,7 +26,9 @@ package com.github.vladislavsevruk.resolver.resolver.simple.parameterized;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeMetaResolverPicker;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
 import com.github.vladislavsevruk.resolver.resolver.simple.TypeResolver;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
 import com.github.vladislavsevruk.resolver.test.data.TestTypeProvider;
+import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
 import org.junit.jupiter.api.Assertions;
@@ -41,6 +43,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.List;
 import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +58,26 @@ class ParameterizedTypeResolverTest {
         Assertions.assertEquals(expectedValue, realParameterizedTypeResolver.canResolve(type));
     }
 
+    @Test
+    void resolveClosedParameterizedTypeReturnsSameInstanceTest() throws NoSuchFieldException {
+        Type type = TestModel.class.getDeclaredField("parameterizedFieldInnerArray").getGenericType();
+        TypeMeta<?> result1 = realParameterizedTypeResolver.resolve(new TypeVariableMap<>(), type);
+        TypeMeta<?> result2 = realParameterizedTypeResolver.resolve(new TypeVariableMap<>(), type);
+        TypeMeta<?> arrayTypeMeta = new TypeMeta<>(Long[].class, new TypeMeta<?>[]{ new TypeMeta<>(Long.class) });
+        TypeMeta<?> expectedTypeMeta = new TypeMeta<>(List.class, new TypeMeta<?>[]{ arrayTypeMeta });
+        Assertions.assertEquals(expectedTypeMeta, result1);
+        Assertions.assertSame(result1, result2);
+    }
+
+    @Test
+    void resolveOpenParameterizedTypeUsesReceivedMappingsTest() throws NoSuchFieldException {
+        Type type = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter").getGenericType();
+        Assertions.assertEquals(new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Short.class) }),
+                realParameterizedTypeResolver.resolve(testModelTypeVariableMap(Short.class), type));
+        Assertions.assertEquals(new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Byte.class) }),
+                realParameterizedTypeResolver.resolve(testModelTypeVariableMap(Byte.class), type));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void resolveSeveralArgumentTypesParameterizedTypeRealContextTest() {
@@ -130,6 +153,12 @@ class ParameterizedTypeResolverTest {
         Assertions.assertEquals(expectedTypeMeta, result);
     }
 
+    private TypeVariableMap<TypeMeta<?>> testModelTypeVariableMap(Class<?> actualType) {
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = new MappedVariableHierarchy<>(TestModel.class);
+        hierarchy.addTypeVariable(TestModel.class, TestModel.class.getTypeParameters()[0], new TypeMeta<>(actualType));
+        return hierarchy.getTypeVariableMap(TestModel.class);
+    }
+
     private static Stream<Arguments> canResolveProvider() {
         return Stream.of(Arguments.of(TestTypeProvider.parameterizedType(), Boolean.TRUE),
                 Arguments.of(TestTypeProvider.arrayType(), Boolean.FALSE),
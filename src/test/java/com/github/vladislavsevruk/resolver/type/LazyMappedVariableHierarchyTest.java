@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.type;
+
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.exception.TypeResolvingException;
+import com.github.vladislavsevruk.resolver.type.mapper.TypeMetaVariableMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class LazyMappedVariableHierarchyTest {
+
+    private TypeMetaVariableMapper eagerMapper = new TypeMetaVariableMapper();
+    private TypeMetaVariableMapper lazyMapper = new TypeMetaVariableMapper(
+            TypeMetaResolvingContextManager.getContext(), true);
+
+    @Test
+    void absentClassTest() {
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = lazyMapper.mapTypeVariables(linkedListTypeMeta());
+        Assertions.assertThrows(TypeResolvingException.class, () -> hierarchy.getTypeVariableMap(Map.class));
+    }
+
+    @Test
+    void concurrentMappingTest() throws Exception {
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = lazyMapper.mapTypeVariables(linkedListTypeMeta());
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<TypeVariableMap<TypeMeta<?>>>> tasks = new ArrayList<>();
+            for (int i = 0; i < 16; ++i) {
+                tasks.add(() -> hierarchy.getTypeVariableMap(Collection.class));
+            }
+            TypeVariableMap<TypeMeta<?>> firstMap = hierarchy.getTypeVariableMap(Collection.class);
+            for (Future<TypeVariableMap<TypeMeta<?>>> future : executorService.invokeAll(tasks)) {
+                Assertions.assertSame(firstMap, future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void equalsTest() {
+        Assertions.assertEquals(lazyMapper.mapTypeVariables(linkedListTypeMeta()),
+                lazyMapper.mapTypeVariables(linkedListTypeMeta()));
+        Assertions.assertNotEquals(lazyMapper.mapTypeVariables(linkedListTypeMeta()),
+                lazyMapper.mapTypeVariables(new TypeMeta<>(LinkedList.class)));
+    }
+
+    @Test
+    void mapSameAsEagerHierarchyTest() {
+        MappedVariableHierarchy<TypeMeta<?>> eagerHierarchy = eagerMapper.mapTypeVariables(linkedListTypeMeta());
+        MappedVariableHierarchy<TypeMeta<?>> lazyHierarchy = lazyMapper.mapTypeVariables(linkedListTypeMeta());
+        Assertions.assertTrue(lazyHierarchy instanceof LazyMappedVariableHierarchy);
+        for (Class<?> clazz : new Class<?>[]{ Collection.class, Deque.class, AbstractCollection.class, Queue.class,
+                AbstractSequentialList.class, AbstractList.class, List.class, LinkedList.class, Iterable.class }) {
+            Assertions.assertEquals(eagerHierarchy.getTypeVariableMap(clazz), lazyHierarchy.getTypeVariableMap(clazz));
+        }
+    }
+
+    @Test
+    void mapSameAsEagerDiamondHierarchyTest() {
+        TypeMeta<?> typeMeta = new TypeMeta<>(DiamondChild.class, new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) });
+        MappedVariableHierarchy<TypeMeta<?>> eagerHierarchy = eagerMapper.mapTypeVariables(typeMeta);
+        MappedVariableHierarchy<TypeMeta<?>> lazyHierarchy = lazyMapper.mapTypeVariables(typeMeta);
+        for (Class<?> clazz : new Class<?>[]{ Base.class, Left.class, Right.class, Diamond.class,
+                DiamondChild.class }) {
+            Assertions.assertEquals(eagerHierarchy.getTypeVariableMap(clazz), lazyHierarchy.getTypeVariableMap(clazz));
+        }
+        TypeMeta<?> expectedBaseType = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) });
+        Assertions.assertEquals(expectedBaseType,
+                lazyHierarchy.getTypeVariableMap(Base.class).getActualType(Base.class.getTypeParameters()[0]));
+    }
+
+    @Test
+    void mapUnresolvedTypeVariablesTest() {
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = lazyMapper.mapTypeVariables(new TypeMeta<>(ArrayList.class));
+        Assertions.assertEquals(TypeMeta.OBJECT_META,
+                hierarchy.getTypeVariableMap(Collection.class).getActualType(Collection.class.getTypeParameters()[0]));
+    }
+
+    @Test
+    void memoizedTypeVariableMapTest() {
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = lazyMapper.mapTypeVariables(linkedListTypeMeta());
+        Assertions.assertSame(hierarchy.getTypeVariableMap(Iterable.class),
+                hierarchy.getTypeVariableMap(Iterable.class));
+        Assertions.assertEquals(new TypeMeta<>(Short.class),
+                hierarchy.getTypeVariableMap(Iterable.class).getActualType(Iterable.class.getTypeParameters()[0]));
+    }
+
+    private TypeMeta<?> linkedListTypeMeta() {
+        return new TypeMeta<>(LinkedList.class, new TypeMeta<?>[]{ new TypeMeta<>(Short.class) });
+    }
+
+    private interface Base<T> {
+    }
+
+    private interface Left<L> extends Base<List<L>> {
+    }
+
+    private interface Right<R> extends Base<R> {
+    }
+
+    private static class Diamond<A> implements Left<A>, Right<List<A>> {
+    }
+
+    private static class DiamondChild<C> extends Diamond<C> implements Base<List<C>> {
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.type;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class TypeMetaPoolTest {
+
+    @AfterEach
+    void disablePool() {
+        TypeMetaPool.disable();
+    }
+
+    @Test
+    void disabledPoolReturnsReceivedTypeMetaTest() {
+        TypeMetaPool.disable();
+        TypeMeta<?> typeMeta = new TypeMeta<>(String.class);
+        Assertions.assertSame(typeMeta, TypeMetaPool.intern(typeMeta));
+        Assertions.assertFalse(TypeMetaPool.isEnabled());
+    }
+
+    @Test
+    void internEqualTypeMetasTest() {
+        TypeMetaPool.enable();
+        TypeMeta<?> typeMeta1 = TypeMetaPool.intern(newDeepTypeMeta());
+        TypeMeta<?> typeMeta2 = TypeMetaPool.intern(newDeepTypeMeta());
+        Assertions.assertSame(typeMeta1, typeMeta2);
+        Assertions.assertEquals(newDeepTypeMeta(), typeMeta1);
+    }
+
+    @Test
+    void internGenericTypesTest() {
+        TypeMetaPool.enable();
+        TypeMeta<?> stringMeta = TypeMetaPool.intern(new TypeMeta<>(String.class));
+        TypeMeta<?> typeMeta = TypeMetaPool.intern(newDeepTypeMeta());
+        Assertions.assertSame(stringMeta, typeMeta.getGenericTypes()[0]);
+        Assertions.assertSame(stringMeta, typeMeta.getGenericTypes()[1].getGenericTypes()[0]);
+    }
+
+    @Test
+    void internNullTest() {
+        TypeMetaPool.enable();
+        Assertions.assertNull(TypeMetaPool.intern(null));
+    }
+
+    @Test
+    void predefinedTypeMetasAreCanonicalTest() {
+        TypeMetaPool.enable();
+        Assertions.assertSame(TypeMeta.OBJECT_META, TypeMetaPool.intern(new TypeMeta<>(Object.class)));
+        Assertions.assertSame(TypeMeta.WILDCARD_META,
+                TypeMetaPool.intern(new TypeMeta<>(Object.class, WildcardBound.UPPER)));
+    }
+
+    @Test
+    void typeProviderReturnsCanonicalTypeMetaTest() {
+        TypeMetaPool.enable();
+        TypeMeta<?> typeMeta1 = new TypeProvider<Map<String, List<String>>>() {}.getTypeMeta();
+        TypeMeta<?> typeMeta2 = new TypeProvider<Map<String, List<String>>>() {}.getTypeMeta();
+        Assertions.assertSame(typeMeta1, typeMeta2);
+    }
+
+    private TypeMeta<?> newDeepTypeMeta() {
+        TypeMeta<?> stringMeta = new TypeMeta<>(String.class);
+        TypeMeta<?> listMeta = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(String.class) });
+        return new TypeMeta<>(Map.class, new TypeMeta<?>[]{ stringMeta, listMeta });
+    }
+}
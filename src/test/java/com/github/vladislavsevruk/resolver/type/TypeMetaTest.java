@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.type;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class TypeMetaTest {
+
+    @Test
+    void equalDeepTypeMetasTest() {
+        TypeMeta<?> typeMeta1 = newDeepTypeMeta(Integer.class);
+        TypeMeta<?> typeMeta2 = newDeepTypeMeta(Integer.class);
+        Assertions.assertEquals(typeMeta1, typeMeta2);
+        Assertions.assertEquals(typeMeta1.hashCode(), typeMeta2.hashCode());
+    }
+
+    @Test
+    void notEqualDeepTypeMetasTest() {
+        Assertions.assertNotEquals(newDeepTypeMeta(Integer.class), newDeepTypeMeta(Long.class));
+    }
+
+    @Test
+    void notEqualWildcardBoundTypeMetasTest() {
+        TypeMeta<?> typeMeta1 = new TypeMeta<>(Number.class, WildcardBound.UPPER);
+        TypeMeta<?> typeMeta2 = new TypeMeta<>(Number.class, WildcardBound.LOWER);
+        Assertions.assertNotEquals(typeMeta1, typeMeta2);
+        Assertions.assertNotEquals(typeMeta1, new TypeMeta<>(Number.class));
+    }
+
+    @Test
+    void sameTypeMetaEqualsTest() {
+        TypeMeta<?> typeMeta = newDeepTypeMeta(Integer.class);
+        Assertions.assertEquals(typeMeta, typeMeta);
+        Assertions.assertNotEquals(typeMeta, null);
+        Assertions.assertNotEquals(typeMeta, new Object());
+    }
+
+    @Test
+    void toStringDoesNotContainHashCodeTest() {
+        Assertions.assertEquals("TypeMeta(genericTypes=[], type=class java.lang.String, wildcardBound=null)",
+                new TypeMeta<>(String.class).toString());
+    }
+
+    private TypeMeta<?> newDeepTypeMeta(Class<?> innerType) {
+        TypeMeta<?> innerMeta = new TypeMeta<>(innerType);
+        TypeMeta<?> listMeta = new TypeMeta<>(List.class, new TypeMeta<?>[]{ innerMeta });
+        return new TypeMeta<>(Map.class, new TypeMeta<?>[]{ new TypeMeta<>(String.class), listMeta });
+    }
+}
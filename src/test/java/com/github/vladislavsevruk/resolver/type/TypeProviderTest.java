@@ -23,6 +23,9 @@
  */
 package com.github.vladislavsevruk.resolver.type;
 
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolvingMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolvingEntryPoint;
 import com.github.vladislavsevruk.resolver.type.mapper.TypeMetaVariableMapper;
 import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
 import org.junit.jupiter.api.Assertions;
@@ -75,6 +78,33 @@ class TypeProviderTest {
         Assertions.assertSame(provider.getTypeMeta(), provider.getTypeMeta(realTypeVariableMapper));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void getTypeMetaWithContextRecordsResolveAtContextMetricsTest() {
+        InMemoryResolvingMetrics resolvingMetrics = new InMemoryResolvingMetrics();
+        ResolvingContext<TypeMeta<?>> context = Mockito.mock(ResolvingContext.class);
+        Mockito.when(context.getTypeVariableMapper()).thenReturn(new TypeMetaVariableMapper());
+        Mockito.when(context.getResolvingMetrics()).thenReturn(resolvingMetrics);
+        TypeMeta<?> expectedMeta = new TypeMeta<>(Set.class, new TypeMeta<?>[]{ new TypeMeta<>(Date.class) });
+        Assertions.assertEquals(expectedMeta, new TypeProvider<Set<Date>>() {}.getTypeMeta(context));
+        Assertions.assertEquals(1L, resolvingMetrics.getSnapshot().getResolveCount(ResolvingEntryPoint.TYPE_PROVIDER));
+    }
+
+    @Test
+    void getTypeMetaSameDescendantCacheTest() {
+        TypeMeta<?> typeMeta = newListOfDoubleProvider().getTypeMeta();
+        Assertions.assertSame(typeMeta, newListOfDoubleProvider().getTypeMeta());
+    }
+
+    @Test
+    void getTypeMetaWithMapperSameDescendantCacheTest() {
+        TypeMeta<?> expectedMeta = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Double.class) });
+        TypeVariableMapper<TypeMeta<?>> typeVariableMapper = mockTypeVariableMapper(expectedMeta);
+        Assertions.assertSame(expectedMeta, newListOfDoubleProvider().getTypeMeta(typeVariableMapper));
+        Assertions.assertSame(expectedMeta, newListOfDoubleProvider().getTypeMeta(typeVariableMapper));
+        Mockito.verify(typeVariableMapper, Mockito.times(1)).mapTypeVariables(ArgumentMatchers.any(Class.class));
+    }
+
     @Test
     void hashCodeTest() {
         TypeProvider<Map<Byte, Boolean[]>> provider = new TypeProvider<Map<Byte, Boolean[]>>() {};
@@ -174,4 +204,8 @@ class TypeProviderTest {
                 .thenReturn(mockMappedVariableHierarchy);
         return mockTypeVariableMapper;
     }
+
+    private TypeProvider<List<Double>> newListOfDoubleProvider() {
+        return new TypeProvider<List<Double>>() {};
+    }
 }
@@ -30,6 +30,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.TypeVariable;
+import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
 class TypeVariableMapTest {
@@ -43,6 +44,37 @@ class TypeVariableMapTest {
     @Mock
     private TypeVariable<? extends Class<?>> typeVariable3;
 
+    @Test
+    void equalsDifferentOrderTest() {
+        TypeVariableMap<TypeMeta<?>> typeVariableMap1 = new TypeVariableMap<>();
+        typeVariableMap1.addTypeVariable(typeVariable1, typeMeta1);
+        typeVariableMap1.addTypeVariable(typeVariable2, typeMeta2);
+        TypeVariableMap<TypeMeta<?>> typeVariableMap2 = new TypeVariableMap<>();
+        typeVariableMap2.addTypeVariable(typeVariable2, typeMeta2);
+        typeVariableMap2.addTypeVariable(typeVariable1, typeMeta1);
+        Assertions.assertEquals(typeVariableMap1, typeVariableMap2);
+        Assertions.assertEquals(typeVariableMap1.hashCode(), typeVariableMap2.hashCode());
+    }
+
+    @Test
+    void equalsDifferentValuesTest() {
+        TypeVariableMap<TypeMeta<?>> typeVariableMap1 = new TypeVariableMap<>();
+        typeVariableMap1.addTypeVariable(typeVariable1, typeMeta1);
+        TypeVariableMap<TypeMeta<?>> typeVariableMap2 = new TypeVariableMap<>();
+        typeVariableMap2.addTypeVariable(typeVariable1, typeMeta2);
+        Assertions.assertNotEquals(typeVariableMap1, typeVariableMap2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void mapEqualNotSameTypeVariableTest() throws NoSuchMethodException {
+        TypeVariableMap<TypeMeta<?>> typeVariableMap = new TypeVariableMap<>();
+        typeVariableMap.addTypeVariable(Map.class.getTypeParameters()[1], typeMeta1);
+        TypeVariable<? extends Class<?>> methodReturnTypeVariable = (TypeVariable<? extends Class<?>>) Map.class
+                .getMethod("get", Object.class).getGenericReturnType();
+        Assertions.assertEquals(typeMeta1, typeVariableMap.getActualType(methodReturnTypeVariable));
+    }
+
     @Test
     void mapNotPresentTypeVariableEmptyMapTest() {
         Assertions.assertNull(new TypeVariableMap<>().getActualType(typeVariable1));
@@ -90,6 +122,14 @@ class TypeVariableMapTest {
         Assertions.assertEquals(typeMeta1, typeVariableMap.getActualType(typeVariable1));
     }
 
+    @Test
+    void mapOverriddenTypeVariableTest() {
+        TypeVariableMap<TypeMeta<?>> typeVariableMap = new TypeVariableMap<>();
+        typeVariableMap.addTypeVariable(typeVariable1, typeMeta1);
+        typeVariableMap.addTypeVariable(typeVariable1, typeMeta2);
+        Assertions.assertEquals(typeMeta2, typeVariableMap.getActualType(typeVariable1));
+    }
+
     @Test
     void mapPresentTypeVariableSeveralItemsMapTest() {
         TypeVariableMap<TypeMeta<?>> typeVariableMap = new TypeVariableMap<>();
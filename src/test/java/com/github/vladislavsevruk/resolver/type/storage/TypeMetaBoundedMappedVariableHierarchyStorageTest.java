@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.type.storage;
+
+import com.github.vladislavsevruk.resolver.cache.CacheStatistics;
+import com.github.vladislavsevruk.resolver.cache.EvictionPolicy;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.ResolvingContextTestUtil;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingModuleFactory;
+import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class TypeMetaBoundedMappedVariableHierarchyStorageTest {
+
+    private TypeMetaBoundedMappedVariableHierarchyStorage realStorage
+            = new TypeMetaBoundedMappedVariableHierarchyStorage();
+
+    @Test
+    void evictionTest() {
+        TypeMetaBoundedMappedVariableHierarchyStorage storage = new TypeMetaBoundedMappedVariableHierarchyStorage(
+                TypeMetaResolvingContextManager.getContext(), 2, EvictionPolicy.LRU);
+        MappedVariableHierarchy<TypeMeta<?>> longHierarchy = storage.get(new TypeMeta<>(Long.class));
+        storage.get(new TypeMeta<>(Short.class));
+        storage.get(new TypeMeta<>(Long.class));
+        storage.get(new TypeMeta<>(Integer.class));
+        CacheStatistics statistics = storage.getStatistics();
+        Assertions.assertEquals(2, statistics.getSize());
+        Assertions.assertEquals(1, statistics.getEvictionCount());
+        Assertions.assertSame(longHierarchy, storage.get(new TypeMeta<>(Long.class)));
+    }
+
+    @Test
+    void getAlreadyPresentHierarchyTest() {
+        MappedVariableHierarchy<TypeMeta<?>> expectedHierarchy = new MappedVariableHierarchy<>(Long.class);
+        TypeMeta<?> typeMeta = new TypeMeta<>(Long.class);
+        expectedHierarchy.addTypeVariable(Comparable.class, Comparable.class.getTypeParameters()[0], typeMeta);
+        MappedVariableHierarchy<TypeMeta<?>> firstHierarchy = realStorage.get(typeMeta);
+        MappedVariableHierarchy<TypeMeta<?>> secondHierarchy = realStorage.get(typeMeta);
+        Assertions.assertEquals(expectedHierarchy, secondHierarchy);
+        Assertions.assertSame(firstHierarchy, secondHierarchy);
+        Assertions.assertEquals(1, realStorage.getStatistics().getHitCount());
+    }
+
+    @Test
+    void hierarchyWithSameGenericClassTest() {
+        TypeMeta<?> typeMeta1 = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) });
+        TypeMeta<?> typeMeta2 = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Number.class) });
+        MappedVariableHierarchy<TypeMeta<?>> firstHierarchy = realStorage.get(typeMeta1);
+        MappedVariableHierarchy<TypeMeta<?>> secondHierarchy = realStorage.get(typeMeta2);
+        Assertions.assertNotSame(firstHierarchy, secondHierarchy);
+    }
+
+    @Test
+    void replaceMappedVariableHierarchyStorageTest() {
+        boolean initialAutoRefreshContext = ResolvingContextTestUtil.isAutoRefreshContext();
+        try {
+            TypeMetaResolvingContextManager.enableContextAutoRefresh();
+            TypeMetaResolvingModuleFactory.replaceMappedVariableHierarchyStorage(
+                    context -> new TypeMetaBoundedMappedVariableHierarchyStorage(context, 16, EvictionPolicy.LFU));
+            ResolvingContext<TypeMeta<?>> context = TypeMetaResolvingContextManager.getContext();
+            Assertions.assertEquals(TypeMetaBoundedMappedVariableHierarchyStorage.class,
+                    context.getMappedVariableHierarchyStorage().getClass());
+        } finally {
+            TypeMetaResolvingModuleFactory.replaceMappedVariableHierarchyStorage(null);
+            ResolvingContextTestUtil.setAutoRefreshContext(initialAutoRefreshContext);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.type.storage;
+
+import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+class TypeMetaClassValueMappedVariableHierarchyStorageTest {
+
+    private TypeMetaClassValueMappedVariableHierarchyStorage realStorage
+            = new TypeMetaClassValueMappedVariableHierarchyStorage();
+
+    @Test
+    void anchorClassIsLoadedByDeepestClassLoaderTest() throws IOException {
+        Class<?> isolatedClass = new IsolatedClassLoader().defineClass(IsolatedModel.class);
+        TypeMeta<?> isolatedTypeMeta = new TypeMeta<>(isolatedClass);
+        TypeMeta<?> typeMeta = new TypeMeta<>(Map.class, new TypeMeta<?>[]{ new TypeMeta<>(String.class),
+                new TypeMeta<>(List.class, new TypeMeta<?>[]{ isolatedTypeMeta }) });
+        Assertions.assertSame(isolatedClass, realStorage.getAnchorClass(typeMeta));
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = realStorage.get(typeMeta);
+        Assertions.assertSame(hierarchy, realStorage.get(typeMeta));
+    }
+
+    @Test
+    void anchorClassOfNonGenericTypeTest() {
+        Assertions.assertSame(String.class, realStorage.getAnchorClass(new TypeMeta<>(String.class)));
+    }
+
+    @Test
+    void getAlreadyPresentHierarchyTest() {
+        MappedVariableHierarchy<TypeMeta<?>> expectedHierarchy = new MappedVariableHierarchy<>(Long.class);
+        TypeMeta<?> typeMeta = new TypeMeta<>(Long.class);
+        expectedHierarchy.addTypeVariable(Comparable.class, Comparable.class.getTypeParameters()[0], typeMeta);
+        MappedVariableHierarchy<TypeMeta<?>> firstHierarchy = realStorage.get(typeMeta);
+        MappedVariableHierarchy<TypeMeta<?>> secondHierarchy = realStorage.get(new TypeMeta<>(Long.class));
+        Assertions.assertEquals(expectedHierarchy, secondHierarchy);
+        Assertions.assertSame(firstHierarchy, secondHierarchy);
+    }
+
+    @Test
+    void getHierarchyTest() {
+        MappedVariableHierarchy<TypeMeta<?>> expectedHierarchy = new MappedVariableHierarchy<>(Short.class);
+        TypeMeta<?> typeMeta = new TypeMeta<>(Short.class);
+        expectedHierarchy.addTypeVariable(Comparable.class, Comparable.class.getTypeParameters()[0], typeMeta);
+        Assertions.assertEquals(expectedHierarchy, realStorage.get(typeMeta));
+    }
+
+    @Test
+    void hierarchyWithSameGenericClassTest() {
+        TypeMeta<?> typeMeta1 = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) });
+        TypeMeta<?> typeMeta2 = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Number.class) });
+        MappedVariableHierarchy<TypeMeta<?>> firstHierarchy = realStorage.get(typeMeta1);
+        MappedVariableHierarchy<TypeMeta<?>> secondHierarchy = realStorage.get(typeMeta2);
+        Assertions.assertNotSame(firstHierarchy, secondHierarchy);
+    }
+
+    public static class IsolatedModel {
+    }
+
+    private static class IsolatedClassLoader extends ClassLoader {
+
+        private IsolatedClassLoader() {
+            super(IsolatedClassLoader.class.getClassLoader());
+        }
+
+        private Class<?> defineClass(Class<?> clazz) throws IOException {
+            String resourceName = clazz.getName().replace('.', '/') + ".class";
+            try (InputStream inputStream = getParent().getResourceAsStream(resourceName);
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+                byte[] buffer = new byte[4096];
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, length);
+                }
+                byte[] bytes = outputStream.toByteArray();
+                return defineClass(clazz.getName(), bytes, 0, bytes.length);
+            }
+        }
+    }
+}
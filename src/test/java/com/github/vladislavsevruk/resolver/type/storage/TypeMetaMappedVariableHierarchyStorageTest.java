@@ -23,17 +23,37 @@
  */
 package com.github.vladislavsevruk.resolver.type.storage;
 
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
+import com.github.vladislavsevruk.resolver.metrics.NoOpResolvingMetrics;
 import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 class TypeMetaMappedVariableHierarchyStorageTest {
 
     private TypeMetaMappedVariableHierarchyStorage realStorage = new TypeMetaMappedVariableHierarchyStorage();
 
+    @Test
+    void carryOverSharesHierarchiesTest() {
+        TypeMeta<?> typeMeta = new TypeMeta<>(Long.class);
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = realStorage.get(typeMeta);
+        MappedVariableHierarchyStorage<TypeMeta<?>> carriedOverStorage = realStorage
+                .carryOver(TypeMetaResolvingContextManager.getContext());
+        Assertions.assertEquals(TypeMetaMappedVariableHierarchyStorage.class, carriedOverStorage.getClass());
+        Assertions.assertSame(hierarchy, carriedOverStorage.get(typeMeta));
+    }
+
     @Test
     void getAlreadyPresentHierarchyTest() {
         MappedVariableHierarchy<TypeMeta<?>> expectedHierarchy = new MappedVariableHierarchy<>(Long.class);
@@ -45,6 +65,39 @@ class TypeMetaMappedVariableHierarchyStorageTest {
         Assertions.assertSame(firstHierarchy, secondHierarchy);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void concurrentGetBuildsHierarchyOnceTest() throws Exception {
+        TypeMeta<?> typeMeta = new TypeMeta<>(Integer.class);
+        MappedVariableHierarchy<TypeMeta<?>> expectedHierarchy = new MappedVariableHierarchy<>(Integer.class);
+        ResolvingContext<TypeMeta<?>> context = Mockito.mock(ResolvingContext.class);
+        TypeVariableMapper<TypeMeta<?>> mapper = Mockito.mock(TypeVariableMapper.class);
+        Mockito.when(context.getTypeVariableMapper()).thenReturn(mapper);
+        Mockito.when(context.getResolvingMetrics()).thenReturn(NoOpResolvingMetrics.INSTANCE);
+        Mockito.when(mapper.mapTypeVariables(typeMeta)).thenReturn(expectedHierarchy);
+        TypeMetaMappedVariableHierarchyStorage storage = new TypeMetaMappedVariableHierarchyStorage(context);
+        int threadsNumber = 8;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Callable<MappedVariableHierarchy<TypeMeta<?>>> task = () -> {
+            startLatch.await();
+            return storage.get(new TypeMeta<>(Integer.class));
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(threadsNumber);
+        try {
+            Future<MappedVariableHierarchy<TypeMeta<?>>>[] futures = new Future[threadsNumber];
+            for (int i = 0; i < threadsNumber; ++i) {
+                futures[i] = executorService.submit(task);
+            }
+            startLatch.countDown();
+            for (Future<MappedVariableHierarchy<TypeMeta<?>>> future : futures) {
+                Assertions.assertSame(expectedHierarchy, future.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Mockito.verify(mapper, Mockito.times(1)).mapTypeVariables(typeMeta);
+    }
+
     @Test
     void getHierarchyTest() {
         MappedVariableHierarchy<TypeMeta<?>> expectedHierarchy = new MappedVariableHierarchy<>(Short.class);
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.AbstractSequentialList;
+import java.util.LinkedList;
+
+class ClassMetadataUtilTest {
+
+    @Test
+    void getGenericInterfacesMatchesClassTest() {
+        Assertions.assertArrayEquals(LinkedList.class.getGenericInterfaces(),
+                ClassMetadataUtil.getGenericInterfaces(LinkedList.class));
+    }
+
+    @Test
+    void getGenericSuperclassMatchesClassTest() {
+        Assertions.assertEquals(TestModel.class.getGenericSuperclass(),
+                ClassMetadataUtil.getGenericSuperclass(TestModel.class));
+        Assertions.assertEquals(AbstractSequentialList.class,
+                ((ParameterizedType) ClassMetadataUtil.getGenericSuperclass(LinkedList.class)).getRawType());
+    }
+
+    @Test
+    void getGenericSuperclassOfInterfaceTest() {
+        Assertions.assertNull(ClassMetadataUtil.getGenericSuperclass(Iterable.class));
+    }
+
+    @Test
+    void getInterfacesMatchesClassTest() {
+        Assertions.assertArrayEquals(LinkedList.class.getInterfaces(),
+                ClassMetadataUtil.getInterfaces(LinkedList.class));
+    }
+
+    @Test
+    void getInterfacesReturnsSharedArrayTest() {
+        Assertions.assertSame(ClassMetadataUtil.getInterfaces(LinkedList.class),
+                ClassMetadataUtil.getInterfaces(LinkedList.class));
+    }
+
+    @Test
+    void getTypeParametersMatchesClassTest() {
+        Assertions.assertArrayEquals(TestModel.class.getTypeParameters(),
+                ClassMetadataUtil.getTypeParameters(TestModel.class));
+    }
+
+    @Test
+    void getTypeParametersOfNonGenericClassTest() {
+        Assertions.assertEquals(0, ClassMetadataUtil.getTypeParameters(String.class).length);
+    }
+
+    @Test
+    void getTypeParametersReturnsSharedArrayTest() {
+        Assertions.assertSame(ClassMetadataUtil.getTypeParameters(TestModel.class),
+                ClassMetadataUtil.getTypeParameters(TestModel.class));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class GenericTypeUtilTest {
+
+    static Stream<Arguments> isClosedTypeProvider() {
+        return Stream.of(Arguments.of("genericField", false), Arguments.of("lowerWildcardField", false),
+                Arguments.of("parameterizedArrayField", false), Arguments.of("parameterizedFieldInnerArray", true),
+                Arguments.of("parameterizedFieldInnerParameter", false),
+                Arguments.of("parameterizedFieldInnerParameterizedArray", false),
+                Arguments.of("parameterizedFieldSeveralInnerParameters", false),
+                Arguments.of("parameterizedFieldSeveralParameters", false),
+                Arguments.of("parameterizedFieldSingleParameter", false), Arguments.of("primitiveArrayField", true),
+                Arguments.of("primitiveField", true), Arguments.of("simpleField", true),
+                Arguments.of("upperWildcardField", false), Arguments.of("wrapperArrayField", true),
+                Arguments.of("wrapperField", true));
+    }
+
+    @Test
+    void isClosedRawGenericClassTest() {
+        Assertions.assertFalse(GenericTypeUtil.isClosedType(List.class));
+        Assertions.assertFalse(GenericTypeUtil.isClosedType(List[][].class));
+        Assertions.assertTrue(GenericTypeUtil.isClosedType(String[][].class));
+        Assertions.assertTrue(GenericTypeUtil.isClosedType(int[].class));
+    }
+
+    @Test
+    void isClosedTypeWithGenericOwnerTest() throws NoSuchMethodException {
+        Assertions.assertTrue(GenericTypeUtil.isClosedType(
+                GenericTypeUtilTest.class.getDeclaredMethod("getEntry").getGenericReturnType()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("isClosedTypeProvider")
+    void isClosedTypeTest(String fieldName, boolean expectedValue) throws NoSuchFieldException {
+        Assertions.assertEquals(expectedValue,
+                GenericTypeUtil.isClosedType(TestModel.class.getDeclaredField(fieldName).getGenericType()));
+    }
+
+    private Map.Entry<String, Integer> getEntry() {
+        return null;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.CachingExecutableTypeMetaResolver;
+import com.github.vladislavsevruk.resolver.resolver.field.FieldTypeMetaResolver;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+class JfrResolvingEventsTest {
+
+    private static final String EXECUTABLE_RESOLVED = "com.github.vladislavsevruk.resolver.ExecutableResolved";
+    private static final String FIELD_RESOLVED = "com.github.vladislavsevruk.resolver.FieldResolved";
+    private static final String HIERARCHY_BUILT = "com.github.vladislavsevruk.resolver.HierarchyBuilt";
+
+    @Test
+    void eventsAreCommittedTest() throws IOException, NoSuchFieldException, NoSuchMethodException {
+        // type meta isn't used by other tests so hierarchy is built during recording
+        TypeMeta<?> typeMeta = new TypeMeta<>(EventModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Long.class) }) });
+        Field field = EventModel.class.getDeclaredField("values");
+        Method method = EventModel.class.getDeclaredMethod("getValue");
+        List<RecordedEvent> events = record(() -> {
+            FieldTypeMetaResolver fieldTypeResolver = new FieldTypeMetaResolver();
+            fieldTypeResolver.resolveField(typeMeta, field);
+            fieldTypeResolver.resolveField(typeMeta, field);
+            CachingExecutableTypeMetaResolver executableTypeResolver = new CachingExecutableTypeMetaResolver();
+            executableTypeResolver.getReturnType(typeMeta, method);
+            executableTypeResolver.getReturnType(typeMeta, method);
+        });
+        Map<String, List<RecordedEvent>> eventsByName = events.stream()
+                .filter(event -> EventModel.class.getName().equals(event.getString("typeName")))
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+        RecordedEvent hierarchyBuiltEvent = eventsByName.get(HIERARCHY_BUILT).get(0);
+        Assertions.assertEquals(2, hierarchyBuiltEvent.getInt("depth"));
+        Assertions.assertTrue(hierarchyBuiltEvent.getLong("resolvingDuration") > 0L);
+        assertCacheHits(eventsByName.get(FIELD_RESOLVED));
+        assertCacheHits(eventsByName.get(EXECUTABLE_RESOLVED));
+        Assertions.assertEquals(EventModel.class.getName() + ".values",
+                eventsByName.get(FIELD_RESOLVED).get(0).getString("field"));
+        Assertions.assertEquals(method.toString(),
+                eventsByName.get(EXECUTABLE_RESOLVED).get(0).getString("executable"));
+    }
+
+    @Test
+    void eventsAreDisabledWithoutRecordingTest() {
+        Assertions.assertFalse(ResolvingEvents.isExecutableResolvedEnabled());
+        Assertions.assertFalse(ResolvingEvents.isFieldResolvedEnabled());
+        Assertions.assertFalse(ResolvingEvents.isHierarchyBuiltEnabled());
+    }
+
+    @Test
+    void eventsAreEnabledByRecordingTest() throws IOException {
+        record(() -> {
+            Assertions.assertTrue(ResolvingEvents.isExecutableResolvedEnabled());
+            Assertions.assertTrue(ResolvingEvents.isFieldResolvedEnabled());
+            Assertions.assertTrue(ResolvingEvents.isHierarchyBuiltEnabled());
+        });
+    }
+
+    private void assertCacheHits(List<RecordedEvent> events) {
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertFalse(events.get(0).getBoolean("cacheHit"));
+        Assertions.assertTrue(events.get(1).getBoolean("cacheHit"));
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = Files.createTempFile("resolving-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EXECUTABLE_RESOLVED);
+            recording.enable(FIELD_RESOLVED);
+            recording.enable(HIERARCHY_BUILT);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class EventModel<T> {
+
+        private Map<String, T> values;
+
+        T getValue() {
+            return null;
+        }
+    }
+}